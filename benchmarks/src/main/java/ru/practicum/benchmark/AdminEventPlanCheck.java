@@ -0,0 +1,172 @@
+package ru.practicum.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.StatsClient;
+import ru.practicum.area.AreaService;
+import ru.practicum.category.Category;
+import ru.practicum.category.CategoryRepository;
+import ru.practicum.event.Event;
+import ru.practicum.event.EventCache;
+import ru.practicum.event.EventEnrichment;
+import ru.practicum.event.EventRepository;
+import ru.practicum.event.EventServiceImpl;
+import ru.practicum.event.ModerationStream;
+import ru.practicum.mark.MarkRepository;
+import ru.practicum.request.RequestRepository;
+import ru.practicum.trending.TrendingEngine;
+import ru.practicum.user.User;
+import ru.practicum.user.UserRepository;
+import ru.practicum.version.ResourceVersions;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class AdminEventPlanCheck {
+    private static final String SCHEMA = "ewm_plan_check";
+    private static final int USERS = 1_000;
+    private static final int CATEGORIES = 50;
+
+    public static void main(String[] args) throws IOException {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        EmbeddedPostgres postgres = args.length > 1 ? null : EmbeddedPostgres.builder().start();
+        String jdbcUrl = postgres == null ? args[1] : postgres.getJdbcUrl("postgres", "postgres");
+        String username = args.length > 2 ? args[2] : "postgres";
+        String password = args.length > 3 ? args[3] : "";
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AdminEventPersistence.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.config.name=admin-event-plan-check",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--spring.datasource.hikari.schema=" + SCHEMA,
+                        "--spring.flyway.schemas=" + SCHEMA,
+                        "--spring.flyway.locations=classpath:db/migration/ewm",
+                        "--spring.flyway.clean-disabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.jpa.properties.hibernate.default_schema=" + SCHEMA,
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo")) {
+            seed(context.getBean(JdbcTemplate.class), events);
+            passed = check(context, events);
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int events) {
+        jdbcTemplate.update("INSERT INTO users (id, email, name) " +
+                "SELECT g, 'user' || g || '@mail.ru', 'User ' || g FROM generate_series(1, ?) AS g", USERS);
+        jdbcTemplate.update("INSERT INTO categories (id, version, name) " +
+                "SELECT g, 0, 'Category ' || g FROM generate_series(1, ?) AS g", CATEGORIES);
+        jdbcTemplate.update("INSERT INTO events (id, version, annotation, category_id, created_on, description, " +
+                "event_date, initiator_id, lat, lon, geo_key, paid, participant_limit, confirmed_requests, " +
+                "published_on, request_moderation, state, title) " +
+                "SELECT g, 0, 'Annotation ' || g, 1 + g % ?, now() - interval '60 days', 'Description ' || g, " +
+                "now() + (g % 365) * interval '1 day' + (g % 1440) * interval '1 minute', 1 + g % ?, 0, 0, 0, " +
+                "g % 2 = 0, 0, 0, NULL, true, " +
+                "CASE WHEN g % 20 = 0 THEN 'PENDING' WHEN g % 50 = 1 THEN 'CANCELED' ELSE 'PUBLISHED' END, " +
+                "'Event ' || g FROM generate_series(1, ?) AS g", CATEGORIES, USERS, events);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static boolean check(ConfigurableApplicationContext context, int events) {
+        EventServiceImpl eventService = new EventServiceImpl(context.getBean(EventRepository.class),
+                StandIns.stub(CategoryRepository.class), StandIns.stub(UserRepository.class),
+                StandIns.stub(RequestRepository.class), StandIns.stub(MarkRepository.class),
+                StandIns.stub(AreaService.class), StandIns.stub(EventCache.class),
+                StandIns.stub(EventEnrichment.class), StandIns.stub(TrendingEngine.class),
+                StandIns.stub(ModerationStream.class), StandIns.stub(ResourceVersions.class),
+                StandIns.stub(StatsClient.class));
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> users = Set.of(1L, 2L, 3L);
+        Set<Long> categories = Set.of(7L, 8L);
+        Set<String> pending = Set.of("PENDING");
+        Map<String, Runnable> searches = new LinkedHashMap<>();
+        searches.put("all events", () -> eventService.getAllEvents(
+                null, null, null, null, null, 0, 10));
+        searches.put("pending queue", () -> eventService.getAllEvents(
+                null, pending, null, null, null, 0, 10));
+        searches.put("pending queue, page 100", () -> eventService.getAllEvents(
+                null, pending, null, null, null, 1000, 10));
+        searches.put("initiators", () -> eventService.getAllEvents(
+                users, null, null, null, null, 0, 10));
+        searches.put("initiators by state", () -> eventService.getAllEvents(
+                users, Set.of("PUBLISHED", "CANCELED"), null, null, null, 0, 10));
+        searches.put("categories", () -> eventService.getAllEvents(
+                null, null, categories, null, null, 0, 10));
+        searches.put("date range", () -> eventService.getAllEvents(
+                null, null, null, now.plusDays(30), now.plusDays(60), 0, 10));
+        searches.put("pending in categories", () -> eventService.getAllEvents(
+                null, pending, categories, now.plusDays(30), now.plusDays(60), 0, 10));
+        QueryPlans queryPlans = context.getBean(QueryPlans.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        boolean passed = true;
+        System.out.printf("Admin event search plans over %d events%n", events);
+        for (Map.Entry<String, Runnable> search : searches.entrySet()) {
+            queryPlans.clear();
+            transactionTemplate.executeWithoutResult(status -> search.getValue().run());
+            JsonNode plan = queryPlans.last();
+            List<String> nodes = new ArrayList<>();
+            boolean seqScan = plan == null || describe(plan, nodes);
+            passed &= !seqScan;
+            System.out.printf("%-24s %-6s cost=%-10s %s%n", search.getKey(), seqScan ? "FAILED" : "OK",
+                    plan == null ? "-" : plan.get("Total Cost").asText(), String.join(" > ", nodes));
+        }
+        System.out.println(passed ? "PASSED: every search uses an index on events"
+                : "FAILED: sequential scan on events");
+
+        return passed;
+    }
+
+    private static boolean describe(JsonNode node, List<String> nodes) {
+        String nodeType = node.get("Node Type").asText();
+        nodes.add(node.has("Index Name") ? nodeType + " using " + node.get("Index Name").asText() : nodeType);
+        boolean seqScan = nodeType.equals("Seq Scan") && node.path("Relation Name").asText().equals("events");
+        for (JsonNode child : node.path("Plans")) {
+            seqScan |= describe(child, nodes);
+        }
+
+        return seqScan;
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = {Event.class, Category.class, User.class})
+    @EnableJpaRepositories(basePackageClasses = EventRepository.class)
+    @Import(QueryPlans.class)
+    public static class AdminEventPersistence {
+        @Bean
+        public FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+}
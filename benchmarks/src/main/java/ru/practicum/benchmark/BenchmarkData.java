@@ -0,0 +1,111 @@
+package ru.practicum.benchmark;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.ViewStats;
+import ru.practicum.category.Category;
+import ru.practicum.enums.State;
+import ru.practicum.event.Event;
+import ru.practicum.event.EventRating;
+import ru.practicum.event.EventShortView;
+import ru.practicum.user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@UtilityClass
+public class BenchmarkData {
+    public static final long SEED = 42L;
+    public static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz ";
+
+    public List<Event> events(int count) {
+        Random random = new Random(SEED);
+        List<Category> categories = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            categories.add(Category.builder().id(i).name("Category " + i).build());
+        }
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= Math.max(10, count / 10); i++) {
+            users.add(User.builder().id(i).name("User " + i).email("user" + i + "@mail.ru").build());
+        }
+        List<Event> events = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            events.add(Event.builder()
+                    .id(i)
+                    .annotation(text(random, 20 + random.nextInt(480)))
+                    .category(categories.get(random.nextInt(categories.size())))
+                    .createdOn(NOW.minusDays(30 + random.nextInt(30)))
+                    .description(text(random, 200 + random.nextInt(6800)))
+                    .eventDate(NOW.plusDays(1 + random.nextInt(90)))
+                    .initiator(users.get(random.nextInt(users.size())))
+                    .lat(-90 + 180 * random.nextDouble())
+                    .lon(-180 + 360 * random.nextDouble())
+                    .paid(random.nextBoolean())
+                    .participantLimit(random.nextInt(4) == 0 ? 0 : 10 + random.nextInt(490))
+                    .confirmedRequests(random.nextBoolean() ? random.nextInt(100) : 0)
+                    .publishedOn(NOW.minusDays(random.nextInt(30)))
+                    .requestModeration(random.nextBoolean())
+                    .state(State.PUBLISHED)
+                    .title(text(random, 3 + random.nextInt(117)))
+                    .build());
+        }
+
+        return events;
+    }
+
+    public List<EventShortView> shortViews(List<Event> events) {
+        List<EventShortView> views = new ArrayList<>(events.size());
+        for (Event event : events) {
+            views.add(new EventShortView(
+                    event.getId(),
+                    event.getAnnotation(),
+                    event.getCategory().getId(),
+                    event.getCategory().getName(),
+                    event.getCategory().getVersion(),
+                    event.getConfirmedRequests(),
+                    event.getEventDate(),
+                    event.getInitiator().getId(),
+                    event.getInitiator().getName(),
+                    event.getPaid(),
+                    event.getTitle(),
+                    event.getPublishedOn(),
+                    event.getLat(),
+                    event.getLon()));
+        }
+
+        return views;
+    }
+
+    public List<EventRating> ratings(List<Event> events) {
+        Random random = new Random(SEED);
+        List<EventRating> ratings = new ArrayList<>();
+        for (Event event : events) {
+            if (random.nextInt(3) > 0) {
+                ratings.add(new EventRating(event.getId(), random.nextDouble() * 10));
+            }
+        }
+
+        return ratings;
+    }
+
+    public List<ViewStats> viewStats(int count, String app) {
+        Random random = new Random(SEED);
+        List<ViewStats> stats = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            stats.add(new ViewStats(app, "/events/" + i, (long) random.nextInt(10_000)));
+        }
+
+        return stats;
+    }
+
+    private String text(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+
+        return new String(chars);
+    }
+}
\ No newline at end of file
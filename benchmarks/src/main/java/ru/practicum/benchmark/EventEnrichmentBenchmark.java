@@ -0,0 +1,45 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import ru.practicum.event.EventEnrichment;
+import ru.practicum.event.EventServiceImpl;
+import ru.practicum.event.EventShortDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventEnrichmentBenchmark {
+    @Param({"1", "16"})
+    private int poolSize;
+    @Param({"20"})
+    private long sourceDelayMs;
+    private EventEnrichment eventEnrichment;
+    private EventServiceImpl eventService;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        eventEnrichment = StandIns.eventEnrichment(poolSize);
+        eventService = StandIns.eventService(BenchmarkData.events(100), 0, eventEnrichment, sourceDelayMs);
+        request = new MockHttpServletRequest("GET", "/events");
+        request.setRemoteAddr("127.0.0.1");
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventEnrichment.shutdown();
+    }
+
+    @Benchmark
+    public List<EventShortDto> getPublishedEvents() {
+        return eventService.getPublishedEvents(null, null, null, null, null, false, "VIEWS",
+                null, null, 0, null, 0, 10, request);
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.event.Event;
+import ru.practicum.event.EventMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventMapperBenchmark {
+    @Param({"10", "1000"})
+    private int pageSize;
+    private List<Event> events;
+
+    @Setup
+    public void setUp() {
+        events = BenchmarkData.events(pageSize);
+    }
+
+    @Benchmark
+    public void toShortDto(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(EventMapper.toShortDto(event));
+        }
+    }
+
+    @Benchmark
+    public void toFullDto(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(EventMapper.toFullDto(event));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import ru.practicum.event.EventServiceImpl;
+import ru.practicum.event.EventShortDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSearchBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int resultSize;
+    @Param({"", "EVENT_DATE", "VIEWS", "RATING"})
+    private String sort;
+    private EventServiceImpl eventService;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        eventService = StandIns.eventService(BenchmarkData.events(resultSize));
+        request = new MockHttpServletRequest("GET", "/events");
+        request.setRemoteAddr("127.0.0.1");
+    }
+
+    @Benchmark
+    public List<EventShortDto> getPublishedEvents() {
+        return eventService.getPublishedEvents(null, null, null, null, null, false,
+                sort.isEmpty() ? null : sort, null, null, 10, null, 0, 10, request);
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import ru.practicum.event.Event;
+import ru.practicum.event.EventFullDto;
+import ru.practicum.event.EventServiceImpl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventViewsBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int resultSize;
+    private EventServiceImpl eventService;
+    private EventServiceImpl cachedEventService;
+    private MethodHandle getViews;
+    private Set<String> uris;
+    private MockHttpServletRequest request;
+    private long eventId;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        List<Event> events = BenchmarkData.events(resultSize);
+        eventService = StandIns.eventService(events);
+        cachedEventService = StandIns.eventService(events, 60_000);
+        getViews = MethodHandles.privateLookupIn(EventServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(EventServiceImpl.class, "getViews",
+                        MethodType.methodType(Map.class, LocalDateTime.class, LocalDateTime.class, Set.class));
+        uris = events.stream().map(event -> "/events/" + event.getId()).collect(Collectors.toSet());
+        eventId = events.get(events.size() / 2).getId();
+        request = new MockHttpServletRequest("GET", "/events/" + eventId);
+        request.setRemoteAddr("127.0.0.1");
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> getViews() throws Throwable {
+        return (Map<Long, Long>) getViews.invoke(eventService, BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, uris);
+    }
+
+    @Benchmark
+    public EventFullDto getPublishedEventById() {
+        return eventService.getPublishedEventById(eventId, request);
+    }
+
+    @Benchmark
+    public EventFullDto getPublishedEventByIdCached() {
+        return cachedEventService.getPublishedEventById(eventId, request);
+    }
+}
@@ -0,0 +1,139 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.ViewStats;
+import ru.practicum.ingest.HitDeduplicator;
+import ru.practicum.model.EndpointHit;
+import ru.practicum.repository.StatsRepository;
+import ru.practicum.service.StatsService;
+import ru.practicum.service.StatsServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PersistenceProfileBenchmark {
+    private static final int STORED_HITS = 10_000;
+    private static final List<String> PROD_SETTINGS = List.of(
+            "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+            "--spring.jpa.properties.hibernate.jdbc.batch_versioned_data=true",
+            "--spring.jpa.properties.hibernate.jdbc.fetch_size=100",
+            "--spring.jpa.properties.hibernate.order_inserts=true",
+            "--spring.jpa.properties.hibernate.order_updates=true",
+            "--spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true",
+            "--spring.jpa.properties.hibernate.query.plan_cache_max_size=4096");
+    private static final List<String> PROD_POSTGRES_SETTINGS = List.of(
+            "--spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+            "--spring.datasource.hikari.data-source-properties.prepareThreshold=1",
+            "--spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries=512",
+            "--spring.datasource.hikari.data-source-properties.preparedStatementCacheSizeMiB=8");
+    @Param({"default", "prod"})
+    private String profile;
+    @Param({"jdbc:h2:mem:persistence;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"})
+    private String jdbcUrl;
+    @Param({"sa"})
+    private String username;
+    @Param({""})
+    private String password;
+    @Param({"500"})
+    private int batchSize;
+    private ConfigurableApplicationContext context;
+    private StatsService statsService;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.name=persistence-benchmark",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.datasource.hikari.maximum-pool-size=4",
+                "--spring.flyway.locations=classpath:db/migration/stats",
+                "--spring.flyway.clean-disabled=false",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                "--stats-server.dedup.window-ms=0",
+                "--stats-server.dedup.maximum-size=1"));
+        if (profile.equals("prod")) {
+            args.addAll(PROD_SETTINGS);
+            if (jdbcUrl.startsWith("jdbc:postgresql")) {
+                args.addAll(PROD_POSTGRES_SETTINGS);
+            }
+        }
+        context = new SpringApplicationBuilder(StatsPersistence.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(new String[0]));
+        statsService = context.getBean(StatsService.class);
+        random = new Random(BenchmarkData.SEED);
+        for (int stored = 0; stored < STORED_HITS; stored += batchSize) {
+            statsService.addHits(hits());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void addHits() {
+        statsService.addHits(hits());
+    }
+
+    @Benchmark
+    public List<ViewStats> getStats() {
+        return statsService.getStats(BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, null, false);
+    }
+
+    private List<EndpointHitDto> hits() {
+        List<EndpointHitDto> hits = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            hits.add(EndpointHitDto.builder()
+                    .hitId(UUID.randomUUID().toString())
+                    .app(StandIns.APP)
+                    .uri("/events/" + random.nextInt(100))
+                    .ip("10.0." + random.nextInt(256) + "." + random.nextInt(256))
+                    .timestamp(BenchmarkData.NOW.minusMinutes(random.nextInt(30 * 24 * 60)))
+                    .build());
+        }
+
+        return hits;
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = EndpointHit.class)
+    @EnableJpaRepositories(basePackageClasses = StatsRepository.class)
+    @Import({StatsServiceImpl.class, HitDeduplicator.class})
+    public static class StatsPersistence {
+        @Bean
+        public FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+public class QueryPlans implements BeanPostProcessor {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern EVENT_PAGE_QUERY = Pattern.compile(
+            "(?is)^select .* from (\\w+\\.)?events \\w+ .* order by .*");
+    private final Predicate<String> explained = EVENT_PAGE_QUERY.asMatchPredicate();
+    private final List<JsonNode> plans = new ArrayList<>();
+
+    public synchronized JsonNode last() {
+        return plans.isEmpty() ? null : plans.get(plans.size() - 1);
+    }
+
+    public synchronized void clear() {
+        plans.clear();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource)) {
+            return bean;
+        }
+        DataSource dataSource = (DataSource) bean;
+
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(method, dataSource, args);
+            return result instanceof Connection ? explaining((Connection) result) : result;
+        });
+    }
+
+    private Connection explaining(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(method, connection, args);
+            if (method.getName().equals("prepareStatement") && explained.test((String) args[0])) {
+                return explaining(connection, (PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement explaining(Connection connection, PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args));
+            } else if (method.getName().equals("executeQuery")) {
+                explain(connection, sql, bindings);
+            }
+            return invoke(method, statement, args);
+        });
+    }
+
+    private void explain(Connection connection, String sql, List<Binding> bindings) throws Throwable {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+            for (Binding binding : bindings) {
+                invoke(binding.method, explain, binding.args);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                JsonNode plan = MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+                synchronized (this) {
+                    plans.add(plan);
+                }
+            }
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryPlans.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @RequiredArgsConstructor
+    private static class Binding {
+        private final Method method;
+        private final Object[] args;
+    }
+}
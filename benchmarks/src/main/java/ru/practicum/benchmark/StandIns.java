@@ -0,0 +1,137 @@
+package ru.practicum.benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.practicum.StatsClient;
+import ru.practicum.ViewStats;
+import ru.practicum.area.AreaService;
+import ru.practicum.category.CategoryRepository;
+import ru.practicum.event.Event;
+import ru.practicum.event.EventCache;
+import ru.practicum.event.EventEnrichment;
+import ru.practicum.event.EventRating;
+import ru.practicum.event.EventRepository;
+import ru.practicum.event.EventServiceImpl;
+import ru.practicum.event.ModerationStream;
+import ru.practicum.mark.MarkRepository;
+import ru.practicum.request.RequestRepository;
+import ru.practicum.trending.TrendingEngine;
+import ru.practicum.user.UserRepository;
+import ru.practicum.version.ResourceVersions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@UtilityClass
+public class StandIns {
+    public static final String APP = "ewm-main-service";
+
+    public <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    public EventServiceImpl eventService(List<Event> events) {
+        return eventService(events, 0);
+    }
+
+    public EventServiceImpl eventService(List<Event> events, long cacheTtlMs) {
+        return eventService(events, cacheTtlMs, eventEnrichment(16), 0);
+    }
+
+    public EventServiceImpl eventService(List<Event> events,
+                                         long cacheTtlMs,
+                                         EventEnrichment eventEnrichment,
+                                         long sourceDelayMs) {
+        EventRepository eventRepository = stub(EventRepository.class);
+        when(eventRepository.findShortViews(ArgumentMatchers.<Specification<Event>>any()))
+                .thenAnswer(invocation -> BenchmarkData.shortViews(events));
+        Map<Long, Event> eventsById = events.stream().collect(Collectors.toMap(Event::getId, Function.identity()));
+        when(eventRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(eventsById.get(invocation.<Long>getArgument(0))));
+        MarkRepository markRepository = stub(MarkRepository.class);
+        List<EventRating> ratings = BenchmarkData.ratings(events);
+        when(markRepository.getAllEventsRating(anySet())).thenAnswer(invocation -> {
+            delay(sourceDelayMs);
+            return ratings;
+        });
+        when(markRepository.getEventRating(anyLong())).thenReturn(Optional.of(7.5));
+        StatsClient statsClient = stub(StatsClient.class);
+        List<ViewStats> viewStats = BenchmarkData.viewStats(events.size(), APP);
+        when(statsClient.getStats(any(), any(), anySet(), anyBoolean())).thenAnswer(invocation -> {
+            delay(sourceDelayMs);
+            return ResponseEntity.ok(viewStats);
+        });
+        when(statsClient.addHit(any())).thenAnswer(invocation -> {
+            delay(sourceDelayMs);
+            return ResponseEntity.ok().build();
+        });
+
+        EventServiceImpl eventService = new EventServiceImpl(
+                eventRepository,
+                stub(CategoryRepository.class),
+                stub(UserRepository.class),
+                stub(RequestRepository.class),
+                markRepository,
+                stub(AreaService.class),
+                eventCache(cacheTtlMs),
+                eventEnrichment,
+                stub(TrendingEngine.class),
+                stub(ModerationStream.class),
+                stub(ResourceVersions.class),
+                statsClient
+        );
+        ReflectionTestUtils.setField(eventService, "appName", APP);
+
+        return eventService;
+    }
+
+    public StatsClient statsClient(String serverUrl, int maxConnections) {
+        StatsClient statsClient = new StatsClient(
+                new DefaultListableBeanFactory().getBeanProvider(RestTemplateBuilder.class), maxConnections);
+        ReflectionTestUtils.setField(statsClient, "serverUrl", serverUrl);
+
+        return statsClient;
+    }
+
+    public EventEnrichment eventEnrichment(int poolSize) {
+        EventEnrichment eventEnrichment = new EventEnrichment();
+        ReflectionTestUtils.setField(eventEnrichment, "poolSize", poolSize);
+        ReflectionTestUtils.setField(eventEnrichment, "queueCapacity", 1024);
+        for (String timeout : List.of("hitTimeoutMs", "ratingTimeoutMs", "viewsTimeoutMs")) {
+            ReflectionTestUtils.setField(eventEnrichment, timeout, 10_000L);
+        }
+        eventEnrichment.init();
+
+        return eventEnrichment;
+    }
+
+    @SuppressWarnings("unchecked")
+    public EventCache eventCache(long ttlMs) {
+        EventCache eventCache = new EventCache(stub(ObjectProvider.class));
+        ReflectionTestUtils.setField(eventCache, "maximumSize", 10_000L);
+        for (String ttl : List.of("eventTtlMs", "viewsTtlMs", "confirmedRequestsTtlMs", "ratingTtlMs")) {
+            ReflectionTestUtils.setField(eventCache, ttl, ttlMs);
+        }
+        eventCache.init();
+
+        return eventCache;
+    }
+
+    private void delay(long delayMs) throws InterruptedException {
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+    }
+}
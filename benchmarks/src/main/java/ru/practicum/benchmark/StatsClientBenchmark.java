@@ -0,0 +1,116 @@
+package ru.practicum.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.ReactiveStatsClient;
+import ru.practicum.StatsClient;
+import ru.practicum.ViewStats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatsClientBenchmark {
+    @Param({"10", "1000"})
+    private int statsSize;
+    private HttpServer server;
+    private StatsClient statsClient;
+    private ReactiveStatsClient reactiveStatsClient;
+    private EndpointHitDto hit;
+    private Set<String> uris;
+    private String statsQuery;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        List<ViewStats> stats = BenchmarkData.viewStats(statsSize, StandIns.APP);
+        hit = EndpointHitDto.builder()
+                .app(StandIns.APP)
+                .uri("/events/1")
+                .ip("127.0.0.1")
+                .timestamp(BenchmarkData.NOW)
+                .build();
+        byte[] hitResponse = objectMapper.writeValueAsBytes(hit);
+        byte[] statsResponse = objectMapper.writeValueAsBytes(stats);
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hit", exchange -> respond(exchange, 201, hitResponse));
+        server.createContext("/stats", exchange -> respond(exchange, 200, statsResponse));
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        String serverUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        statsClient = StandIns.statsClient(serverUrl, 200);
+        reactiveStatsClient = new ReactiveStatsClient(WebClient.builder(), serverUrl, 200);
+        uris = stats.stream().map(ViewStats::getUri).collect(Collectors.toSet());
+        statsQuery = "start=2023-12-02%2012:00:00&end=2024-01-01%2012:00:00&unique=true&uris="
+                + String.join(",", uris);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ResponseEntity<EndpointHitDto> addHit() {
+        return statsClient.addHit(hit);
+    }
+
+    @Benchmark
+    public ResponseEntity<List<ViewStats>> getStats() {
+        return statsClient.getStats(BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, uris, true);
+    }
+
+    @Benchmark
+    public ResponseEntity<EndpointHitDto> addHitReactive() {
+        return reactiveStatsClient.addHit(hit).block();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<ViewStats>> getStatsReactive() {
+        return reactiveStatsClient.getStats(BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, uris, true).block();
+    }
+
+    @Benchmark
+    public long getStatsPassThrough() {
+        return reactiveStatsClient.forwardStats(statsQuery, HttpHeaders.EMPTY)
+                .flatMapMany(ResponseEntity::getBody)
+                .map(buffer -> {
+                    int length = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return (long) length;
+                })
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+}
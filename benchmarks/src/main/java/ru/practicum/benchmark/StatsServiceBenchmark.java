@@ -0,0 +1,58 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.ViewStats;
+import ru.practicum.ingest.HitDeduplicator;
+import ru.practicum.repository.CollapsedHitRepository;
+import ru.practicum.repository.StatsRepository;
+import ru.practicum.service.StatsServiceImpl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatsServiceBenchmark {
+    @Param({"1000", "100000"})
+    private int statsSize;
+    @Param({"1", "100"})
+    private int urisSize;
+    private StatsServiceImpl statsService;
+    private Set<String> uris;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<ViewStats> stats = BenchmarkData.viewStats(statsSize, StandIns.APP);
+        StatsRepository statsRepository = StandIns.stub(StatsRepository.class);
+        when(statsRepository.getStatsWithUnique(any(), any())).thenReturn(stats);
+        when(statsRepository.getStatsWithoutUnique(any(), any())).thenReturn(stats);
+        statsService = new StatsServiceImpl(statsRepository, StandIns.stub(ObjectProvider.class),
+                StandIns.stub(CollapsedHitRepository.class), new HitDeduplicator(), StandIns.stub(TransactionTemplate.class));
+        uris = stats.stream()
+                .limit(urisSize)
+                .map(ViewStats::getUri)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public List<ViewStats> getStatsFiltered() {
+        return statsService.getStats(BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, uris, true);
+    }
+
+    @Benchmark
+    public List<ViewStats> getStatsUnfiltered() {
+        return statsService.getStats(BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, null, false);
+    }
+}
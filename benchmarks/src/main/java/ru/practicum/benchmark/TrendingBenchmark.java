@@ -0,0 +1,48 @@
+package ru.practicum.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.practicum.trending.TrendingEngine;
+import ru.practicum.trending.TrendingScoreRepository;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrendingBenchmark {
+    private static final int CATEGORIES = 20;
+    @Param({"1000", "100000"})
+    private int eventsSize;
+    private TrendingEngine trendingEngine;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        trendingEngine = new TrendingEngine(StandIns.stub(TrendingScoreRepository.class));
+        ReflectionTestUtils.setField(trendingEngine, "halfLifeMs", 21_600_000L);
+        ReflectionTestUtils.setField(trendingEngine, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(trendingEngine, "markWeight", 5.0);
+        trendingEngine.init();
+        random = new Random(BenchmarkData.SEED);
+        for (long eventId = 1; eventId <= eventsSize; eventId++) {
+            trendingEngine.recordView(eventId, eventId % CATEGORIES);
+        }
+    }
+
+    @Benchmark
+    public void recordView() {
+        long eventId = 1 + random.nextInt(eventsSize);
+        trendingEngine.recordView(eventId, eventId % CATEGORIES);
+    }
+
+    @Benchmark
+    public List<Long> getTopEvents() {
+        return trendingEngine.getTopEvents(7L, 10);
+    }
+}
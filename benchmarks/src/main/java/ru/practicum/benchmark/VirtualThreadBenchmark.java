@@ -0,0 +1,108 @@
+package ru.practicum.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.StatsClient;
+import ru.practicum.execution.VirtualThreads;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+    private static final int REQUESTS = 1000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    @Param({"platform", "virtual"})
+    private String executor;
+    @Param({"50", "200"})
+    private long statsDelayMs;
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+    private StatsClient statsClient;
+    private EndpointHitDto hit;
+    private Set<String> uris;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        hit = EndpointHitDto.builder()
+                .app(StandIns.APP)
+                .uri("/events/1")
+                .ip("127.0.0.1")
+                .timestamp(BenchmarkData.NOW)
+                .build();
+        byte[] hitResponse = objectMapper.writeValueAsBytes(hit);
+        byte[] statsResponse = objectMapper.writeValueAsBytes(BenchmarkData.viewStats(1, StandIns.APP));
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(REQUESTS));
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), REQUESTS);
+        server.createContext("/hit", exchange -> respond(exchange, 201, hitResponse));
+        server.createContext("/stats", exchange -> respond(exchange, 200, statsResponse));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        requestExecutor = "virtual".equals(executor)
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        statsClient = StandIns.statsClient("http://127.0.0.1:" + server.getAddress().getPort(), REQUESTS);
+        uris = Set.of(hit.getUri());
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        server.stop(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int handleRequests() throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(requestExecutor.submit(() -> {
+                statsClient.addHit(hit);
+                return statsClient.getStats(BenchmarkData.NOW.minusDays(30), BenchmarkData.NOW, uris, true)
+                        .getBody()
+                        .size();
+            }));
+        }
+        int total = 0;
+        for (Future<Integer> response : responses) {
+            total += response.get();
+        }
+
+        return total;
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        try {
+            Thread.sleep(statsDelayMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ru.practicum.execution;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@UtilityClass
+public class VirtualThreads {
+    public boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    public ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer, current version: "
+                    + Runtime.version());
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to create virtual thread executor", ex);
+        }
+    }
+}
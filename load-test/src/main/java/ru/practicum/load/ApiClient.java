@@ -0,0 +1,48 @@
+package ru.practicum.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+@RequiredArgsConstructor
+public class ApiClient {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final LoadTestConfig config;
+
+    public long create(String path, Object body) throws IOException, InterruptedException {
+        return send("POST", path, body).path("id").asLong();
+    }
+
+    public JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(method, path, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(method + " " + path + " failed: " + response.statusCode() + " " + response.body());
+        }
+
+        return objectMapper.readTree(response.body());
+    }
+
+    public int status(String method, String path) throws IOException, InterruptedException {
+        return httpClient.send(request(method, path, null), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest request(String method, String path, Object body) throws IOException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+
+        return HttpRequest.newBuilder(URI.create(config.getBaseUrl() + path))
+                .timeout(config.getTimeout())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, publisher)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.load;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+public class EndpointStats {
+    @Getter
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    @Getter
+    private int count;
+    @Getter
+    private int clientErrors;
+    @Getter
+    private int errors;
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public synchronized void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (status >= 500 || status < 0) {
+            errors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        }
+    }
+
+    public synchronized EndpointSummary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        return new EndpointSummary(
+                endpoint,
+                count,
+                count / seconds,
+                percentile(sorted, 50),
+                percentile(sorted, 95),
+                percentile(sorted, 99),
+                count == 0 ? 0 : (double) clientErrors / count,
+                count == 0 ? 0 : (double) errors / count
+        );
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
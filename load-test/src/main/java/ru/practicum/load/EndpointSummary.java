@@ -0,0 +1,17 @@
+package ru.practicum.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EndpointSummary {
+    private String endpoint;
+    private int requests;
+    private double throughput;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double clientErrorRate;
+    private double errorRate;
+}
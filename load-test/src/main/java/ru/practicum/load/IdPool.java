@@ -0,0 +1,26 @@
+package ru.practicum.load;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class IdPool {
+    private final Map<String, List<Long>> ids;
+
+    public IdPool(Map<String, List<Long>> ids) {
+        this.ids = ids;
+    }
+
+    public String pick(String variable) {
+        List<Long> pool = ids.get(variable);
+        if (pool == null || pool.isEmpty()) {
+            return "1";
+        }
+
+        return String.valueOf(pool.get(ThreadLocalRandom.current().nextInt(pool.size())));
+    }
+
+    public boolean has(String variable) {
+        return ids.containsKey(variable);
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.load;
+
+import lombok.RequiredArgsConstructor;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@RequiredArgsConstructor
+public class LoadRunner {
+    private final HttpClient httpClient;
+    private final RequestFactory requestFactory;
+    private final List<RequestShape> shapes;
+    private final LoadTestConfig config;
+
+    public Map<String, EndpointStats> run() throws InterruptedException {
+        int[] cumulativeWeights = new int[shapes.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < shapes.size(); i++) {
+            totalWeight += Math.max(0, shapes.get(i).getWeight());
+            cumulativeWeights[i] = totalWeight;
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("No request shapes with positive weight.");
+        }
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        long interval = config.getRate() > 0 ? TimeUnit.SECONDS.toNanos(1) / config.getRate() : 0;
+        long start = System.nanoTime();
+        long measureFrom = start + config.getWarmup().toNanos();
+        long deadline = measureFrom + config.getDuration().toNanos();
+        AtomicLong nextSlot = new AtomicLong(start);
+        int weights = totalWeight;
+        ExecutorService executor = Executors.newFixedThreadPool(config.getConcurrency());
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    if (interval > 0) {
+                        long slot = nextSlot.getAndAdd(interval);
+                        long wait = slot - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    }
+                    RequestShape shape = pick(cumulativeWeights, weights);
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = httpClient.send(requestFactory.create(shape), HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception ex) {
+                        status = -1;
+                    }
+                    long received = System.nanoTime();
+                    if (sent >= measureFrom && received <= deadline) {
+                        stats.computeIfAbsent(shape.getEndpoint(), EndpointStats::new).record(received - sent, status);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(config.getWarmup().plus(config.getDuration()).plus(config.getTimeout())
+                .toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+
+        return stats;
+    }
+
+    private RequestShape pick(int[] cumulativeWeights, int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return shapes.get(i);
+            }
+        }
+
+        return shapes.get(shapes.size() - 1);
+    }
+}
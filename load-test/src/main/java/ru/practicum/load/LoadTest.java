@@ -0,0 +1,86 @@
+package ru.practicum.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+public class LoadTest {
+    private static final String PUBLIC_READ_SHAPES = "/public-read.jsonl";
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.getTimeout())
+                .executor(Executors.newFixedThreadPool(config.getConcurrency()))
+                .build();
+        ApiClient apiClient = new ApiClient(httpClient, config);
+        if (config.getScenario().equals("participant-limit")) {
+            System.exit(new ParticipantLimitCheck(apiClient, config).run() ? 0 : 1);
+        }
+        List<RequestShape> shapes = new ArrayList<>();
+        if (config.getCollection() != null) {
+            shapes.addAll(ShapeLoader.fromPostman(config.getCollection()));
+        }
+        if (config.getShapes() != null) {
+            shapes.addAll(ShapeLoader.fromJsonLines(config.getShapes()));
+        }
+        if (config.isPublicRead()) {
+            try (InputStream input = LoadTest.class.getResourceAsStream(PUBLIC_READ_SHAPES)) {
+                shapes.addAll(ShapeLoader.fromJsonLines(input));
+            }
+        }
+        if (shapes.isEmpty()) {
+            throw new IllegalArgumentException("No request shapes to replay.");
+        }
+        IdPool idPool = new Seeder(apiClient, config).seed();
+        RequestFactory requestFactory = new RequestFactory(config.getBaseUrl(), idPool, config.getTimeout());
+        System.out.printf("Replaying %d request shapes with concurrency %d, rate %s, warmup %ds, duration %ds%n",
+                shapes.size(), config.getConcurrency(), config.getRate() > 0 ? config.getRate() + "/s" : "unlimited",
+                config.getWarmup().toSeconds(), config.getDuration().toSeconds());
+        Map<String, EndpointStats> stats = new LoadRunner(httpClient, requestFactory, shapes, config).run();
+        double seconds = config.getDuration().toMillis() / 1000.0;
+        List<EndpointSummary> summaries = stats.values().stream()
+                .map(endpointStats -> endpointStats.summarize(seconds))
+                .sorted(Comparator.comparing(EndpointSummary::getEndpoint))
+                .collect(Collectors.toList());
+        print(summaries, seconds);
+        if (config.getReport() != null) {
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(config.getReport().toFile(), summaries);
+            System.out.println("Report written to " + config.getReport().toAbsolutePath());
+        }
+        System.exit(0);
+    }
+
+    private static void print(List<EndpointSummary> summaries, double seconds) {
+        String format = "%-45s %9s %9s %9s %9s %9s %7s %7s%n";
+        System.out.printf(format, "endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "4xx %", "err %");
+        long requests = 0;
+        long errors = 0;
+        for (EndpointSummary summary : summaries) {
+            System.out.printf(format,
+                    summary.getEndpoint(),
+                    summary.getRequests(),
+                    String.format("%.1f", summary.getThroughput()),
+                    String.format("%.2f", summary.getP50Ms()),
+                    String.format("%.2f", summary.getP95Ms()),
+                    String.format("%.2f", summary.getP99Ms()),
+                    String.format("%.1f", summary.getClientErrorRate() * 100),
+                    String.format("%.1f", summary.getErrorRate() * 100));
+            requests += summary.getRequests();
+            errors += Math.round(summary.getErrorRate() * summary.getRequests());
+        }
+        System.out.printf("total: %d requests, %.1f req/s, error rate %.2f%%%n",
+                requests, requests / seconds, requests == 0 ? 0 : 100.0 * errors / requests);
+    }
+}
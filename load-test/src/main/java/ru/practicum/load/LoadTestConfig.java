@@ -0,0 +1,71 @@
+package ru.practicum.load;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public class LoadTestConfig {
+    private final String baseUrl;
+    private final Path collection;
+    private final Path shapes;
+    private final boolean publicRead;
+    private final int concurrency;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration timeout;
+    private final int seedUsers;
+    private final int seedCategories;
+    private final int seedEvents;
+    private final Path report;
+    private final String scenario;
+    private final int participantLimit;
+    private final int requesters;
+
+    private LoadTestConfig(Map<String, String> args) {
+        baseUrl = args.getOrDefault("base-url", "http://localhost:8080");
+        collection = optionalPath(args.getOrDefault("collection", "postman/feature.json"));
+        shapes = optionalPath(args.get("shapes"));
+        publicRead = Boolean.parseBoolean(args.getOrDefault("public-read", "true"));
+        concurrency = Integer.parseInt(args.getOrDefault("concurrency", "16"));
+        rate = Integer.parseInt(args.getOrDefault("rate", "0"));
+        warmup = Duration.ofSeconds(Long.parseLong(args.getOrDefault("warmup", "10")));
+        duration = Duration.ofSeconds(Long.parseLong(args.getOrDefault("duration", "60")));
+        timeout = Duration.ofMillis(Long.parseLong(args.getOrDefault("timeout-ms", "5000")));
+        seedUsers = Integer.parseInt(args.getOrDefault("seed-users", "50"));
+        seedCategories = Integer.parseInt(args.getOrDefault("seed-categories", "10"));
+        seedEvents = Integer.parseInt(args.getOrDefault("seed-events", "200"));
+        report = optionalPath(args.get("report"));
+        scenario = args.getOrDefault("scenario", "replay");
+        participantLimit = Integer.parseInt(args.getOrDefault("participant-limit", "100"));
+        requesters = Integer.parseInt(args.getOrDefault("requesters", "2000"));
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive.");
+        }
+        if (rate < 0) {
+            throw new IllegalArgumentException("Rate must not be negative.");
+        }
+    }
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argument must be in format --key=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestConfig(values);
+    }
+
+    private static Path optionalPath(String value) {
+        return value == null || value.isBlank() ? null : Paths.get(value);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.practicum.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RequiredArgsConstructor
+public class ParticipantLimitCheck {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final ApiClient apiClient;
+    private final LoadTestConfig config;
+
+    public boolean run() throws IOException, InterruptedException, ExecutionException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long initiatorId = apiClient.create("/admin/users",
+                Map.of("email", "initiator." + runId + "@mail.ru", "name", "Initiator " + runId));
+        long categoryId = apiClient.create("/admin/categories", Map.of("name", "Limit " + runId));
+        Map<String, Object> event = new HashMap<>();
+        event.put("annotation", "Participant limit check annotation");
+        event.put("category", categoryId);
+        event.put("description", "Participant limit check description " + runId);
+        event.put("eventDate", LocalDateTime.now().plusDays(3).format(FORMATTER));
+        event.put("location", Map.of("lat", 55.75, "lon", 37.62));
+        event.put("paid", false);
+        event.put("participantLimit", config.getParticipantLimit());
+        event.put("requestModeration", false);
+        event.put("title", "Participant limit check");
+        long eventId = apiClient.create("/users/" + initiatorId + "/events", event);
+        apiClient.send("PATCH", "/admin/events/" + eventId, Map.of("stateAction", "PUBLISH_EVENT"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.getConcurrency());
+        List<Future<Long>> users = new ArrayList<>();
+        for (int i = 0; i < config.getRequesters(); i++) {
+            int index = i;
+            users.add(executor.submit(() -> apiClient.create("/admin/users",
+                    Map.of("email", "requester" + index + "." + runId + "@mail.ru", "name", "Requester " + index))));
+        }
+        List<Callable<Integer>> requests = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (Future<Long> user : users) {
+            long userId = user.get();
+            requests.add(() -> {
+                start.await();
+                return apiClient.status("POST", "/users/" + userId + "/requests?eventId=" + eventId);
+            });
+        }
+        List<Future<Integer>> statuses = new ArrayList<>();
+        for (Callable<Integer> request : requests) {
+            statuses.add(executor.submit(request));
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger other = new AtomicInteger();
+        for (Future<Integer> status : statuses) {
+            int code = status.get();
+            if (code == 201) {
+                created.incrementAndGet();
+            } else if (code == 409) {
+                conflicts.incrementAndGet();
+            } else {
+                other.incrementAndGet();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        JsonNode savedEvent = apiClient.send("GET", "/users/" + initiatorId + "/events/" + eventId, null);
+        int confirmed = 0;
+        for (JsonNode request : apiClient.send("GET", "/users/" + initiatorId + "/events/" + eventId + "/requests", null)) {
+            if ("CONFIRMED".equals(request.path("status").asText())) {
+                confirmed++;
+            }
+        }
+        long counter = savedEvent.path("confirmedRequests").asLong();
+        System.out.printf("Participant limit %d, %d requests in %.2fs (%.0f req/s): %d created, %d rejected, %d other%n",
+                config.getParticipantLimit(), statuses.size(), seconds, statuses.size() / seconds,
+                created.get(), conflicts.get(), other.get());
+        System.out.printf("Confirmed requests: %d stored, counter %d%n", confirmed, counter);
+        boolean expectedCount = created.get() == Math.min(config.getParticipantLimit(), statuses.size() - other.get());
+        boolean passed = confirmed <= config.getParticipantLimit() && counter == confirmed
+                && created.get() == confirmed && expectedCount;
+        System.out.println(passed ? "PASSED: no overbooking" : "FAILED: participant limit violated");
+
+        return passed;
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class RequestFactory {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern PATH_VARIABLE = Pattern.compile(":(\\w+)");
+    private static final Pattern TEMPLATE_VARIABLE = Pattern.compile("\\{\\{(\\w+)}}");
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final IdPool idPool;
+    private final Duration timeout;
+
+    public RequestFactory(String baseUrl, IdPool idPool, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.idPool = idPool;
+        this.timeout = timeout;
+    }
+
+    public HttpRequest create(RequestShape shape) {
+        StringBuilder url = new StringBuilder(baseUrl).append(resolvePath(shape.getPath()));
+        char separator = '?';
+        for (Map.Entry<String, String> param : shape.getQuery().entrySet()) {
+            String value = idPool.has(param.getKey()) ? idPool.pick(param.getKey()) : resolveTemplate(param.getValue());
+            url.append(separator)
+                    .append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+            separator = '&';
+        }
+        HttpRequest.BodyPublisher body = shape.getBody() == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(resolveBody(shape.getBody()));
+
+        return HttpRequest.newBuilder(URI.create(url.toString()))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(shape.getMethod(), body)
+                .build();
+    }
+
+    private String resolvePath(String path) {
+        Matcher matcher = PATH_VARIABLE.matcher(path);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(resolved, idPool.pick(matcher.group(1)));
+        }
+        matcher.appendTail(resolved);
+
+        return resolved.toString();
+    }
+
+    private String resolveTemplate(String value) {
+        Matcher matcher = TEMPLATE_VARIABLE.matcher(value);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            String replacement = matcher.group(1).startsWith("now")
+                    ? LocalDateTime.now().plusDays(3).format(FORMATTER)
+                    : idPool.pick(matcher.group(1));
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(resolved);
+
+        return resolved.toString();
+    }
+
+    private String resolveBody(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(resolveTemplate(body));
+            if (node.isObject()) {
+                randomizeFields((ObjectNode) node);
+            }
+
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException ex) {
+            return body;
+        }
+    }
+
+    private void randomizeFields(ObjectNode node) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+            if (name.equals("email") && value.isTextual()) {
+                field.setValue(node.textNode(suffix + "." + value.asText()));
+            } else if ((name.equals("name") || name.equals("title")) && value.isTextual()) {
+                String text = value.asText();
+                field.setValue(node.textNode(text.substring(0, Math.min(text.length(), 40)) + " " + suffix));
+            } else if (name.equals("category") && value.isNumber()) {
+                field.setValue(node.numberNode(Long.parseLong(idPool.pick("catId"))));
+            } else if (name.equals("events") && value.isArray()) {
+                ArrayNode events = node.arrayNode();
+                value.forEach(event -> events.add(Long.parseLong(idPool.pick("eventId"))));
+                field.setValue(events);
+            } else if (name.equals("requestIds") && value.isArray()) {
+                ArrayNode requests = node.arrayNode();
+                value.forEach(request -> requests.add(Long.parseLong(idPool.pick("requestId"))));
+                field.setValue(requests);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RequestShape {
+    private String method;
+    private String path;
+    private Map<String, String> query = new LinkedHashMap<>();
+    private String body;
+    private int weight = 1;
+
+    public String getEndpoint() {
+        return method + " " + path;
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.load;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+@RequiredArgsConstructor
+public class Seeder {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final Random random = new Random(42);
+    private final ApiClient apiClient;
+    private final LoadTestConfig config;
+
+    public IdPool seed() throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < config.getSeedUsers(); i++) {
+            userIds.add(apiClient.create("/admin/users",
+                    Map.of("email", "load" + i + "." + runId + "@mail.ru", "name", "Load user " + i)));
+        }
+        List<Long> categoryIds = new ArrayList<>();
+        for (int i = 0; i < config.getSeedCategories(); i++) {
+            categoryIds.add(apiClient.create("/admin/categories", Map.of("name", "Load " + runId + " " + i)));
+        }
+        List<Long> eventIds = new ArrayList<>();
+        for (int i = 0; i < config.getSeedEvents(); i++) {
+            long userId = userIds.get(random.nextInt(userIds.size()));
+            Map<String, Object> event = new HashMap<>();
+            event.put("annotation", "Load test event annotation " + i);
+            event.put("category", categoryIds.get(random.nextInt(categoryIds.size())));
+            event.put("description", "Load test event description " + i + " for run " + runId);
+            event.put("eventDate", LocalDateTime.now().plusDays(3 + random.nextInt(60)).format(FORMATTER));
+            event.put("location", Map.of("lat", -90 + 180 * random.nextDouble(), "lon", -180 + 360 * random.nextDouble()));
+            event.put("paid", random.nextBoolean());
+            event.put("participantLimit", random.nextInt(4) == 0 ? 0 : 10 + random.nextInt(490));
+            event.put("requestModeration", random.nextBoolean());
+            event.put("title", "Load event " + i);
+            long eventId = apiClient.create("/users/" + userId + "/events", event);
+            apiClient.send("PATCH", "/admin/events/" + eventId, Map.of("stateAction", "PUBLISH_EVENT"));
+            eventIds.add(eventId);
+        }
+        System.out.printf("Seeded %d users, %d categories, %d published events%n",
+                userIds.size(), categoryIds.size(), eventIds.size());
+
+        return new IdPool(Map.of(
+                "userId", userIds,
+                "catId", categoryIds,
+                "eventId", eventIds,
+                "id", eventIds,
+                "initiatorId", userIds
+        ));
+    }
+}
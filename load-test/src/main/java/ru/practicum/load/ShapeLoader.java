@@ -0,0 +1,92 @@
+package ru.practicum.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.experimental.UtilityClass;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@UtilityClass
+public class ShapeLoader {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public List<RequestShape> fromPostman(Path collection) throws IOException {
+        List<RequestShape> shapes = new ArrayList<>();
+        collectPostmanItems(objectMapper.readTree(collection.toFile()).path("item"), shapes);
+
+        return shapes;
+    }
+
+    public List<RequestShape> fromJsonLines(InputStream input) throws IOException {
+        List<RequestShape> shapes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.hasNonNull("method") || !node.hasNonNull("path")) {
+                    continue;
+                }
+                Map<String, String> query = new LinkedHashMap<>();
+                node.path("query").fields().forEachRemaining(field -> query.put(field.getKey(), field.getValue().asText()));
+                String body = node.hasNonNull("body") ? objectMapper.writeValueAsString(node.get("body")) : null;
+                shapes.add(new RequestShape(
+                        node.get("method").asText(),
+                        node.get("path").asText(),
+                        query,
+                        body,
+                        node.path("weight").asInt(1)
+                ));
+            }
+        }
+
+        return shapes;
+    }
+
+    public List<RequestShape> fromJsonLines(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return fromJsonLines(input);
+        }
+    }
+
+    private void collectPostmanItems(JsonNode items, List<RequestShape> shapes) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collectPostmanItems(item.get("item"), shapes);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            StringBuilder path = new StringBuilder();
+            for (JsonNode segment : url.path("path")) {
+                path.append('/').append(segment.asText());
+            }
+            Map<String, String> query = new LinkedHashMap<>();
+            for (JsonNode param : url.path("query")) {
+                if (!param.path("disabled").asBoolean(false)) {
+                    query.put(param.path("key").asText(), param.path("value").asText());
+                }
+            }
+            String body = request.path("body").path("raw").asText(null);
+            shapes.add(new RequestShape(
+                    request.path("method").asText("GET"),
+                    path.toString(),
+                    query,
+                    body == null || body.isBlank() ? null : body,
+                    1
+            ));
+        }
+    }
+}
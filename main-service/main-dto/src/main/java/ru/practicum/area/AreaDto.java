@@ -0,0 +1,16 @@
+package ru.practicum.area;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AreaDto {
+    private Long id;
+    private String name;
+    private double lat;
+    private double lon;
+    private double radius;
+}
@@ -0,0 +1,32 @@
+package ru.practicum.area;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NewAreaDto {
+    @NotBlank
+    @Size(min = 1, max = 120, message = "Area name length must be between 1 and 120 characters")
+    private String name;
+    @NotNull
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private Double lat;
+    @NotNull
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private Double lon;
+    @NotNull
+    @Positive
+    private Double radius;
+}
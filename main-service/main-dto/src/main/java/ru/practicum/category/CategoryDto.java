@@ -17,4 +17,5 @@ public class CategoryDto {
     @NotBlank
     @Size(min = 1, max = 50, message = "Category name length must be between 1 and 50 characters")
     private String name;
+    private Long version;
 }
\ No newline at end of file
@@ -13,4 +13,5 @@ public class CompilationDto {
     private Set<EventShortDto> events;
     private Boolean pinned;
     private String title;
+    private Long version;
 }
\ No newline at end of file
@@ -17,4 +17,5 @@ public class UpdateCompilationRequest {
     private Boolean pinned;
     @Size(min = 1, max = 50, message = "Compilation title length must be between 1 and 50 characters")
     private String title;
-}
\ No newline at end of file
+    private Long version;
+}
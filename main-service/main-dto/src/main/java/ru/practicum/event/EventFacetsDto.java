@@ -0,0 +1,16 @@
+package ru.practicum.event;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class EventFacetsDto {
+    private long total;
+    private Map<Long, Long> categories;
+    private long paid;
+    private long free;
+    private Map<String, Long> dates;
+}
@@ -10,7 +10,7 @@ import ru.practicum.user.UserShortDto;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class EventFullDto {
     private Long id;
     private String annotation;
@@ -32,4 +32,5 @@ public class EventFullDto {
     private State state;
     private String title;
     private Long views;
+    private Long version;
 }
\ No newline at end of file
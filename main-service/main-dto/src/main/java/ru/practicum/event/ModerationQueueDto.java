@@ -0,0 +1,15 @@
+package ru.practicum.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationQueueDto {
+    private List<EventFullDto> events;
+    private String nextCursor;
+}
@@ -0,0 +1,22 @@
+package ru.practicum.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.enums.StateActionAdmin;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationRequest {
+    @NotEmpty
+    @Size(max = 1000, message = "No more than 1000 events can be moderated at once")
+    private Set<Long> eventIds;
+    @NotNull
+    private StateActionAdmin stateAction;
+}
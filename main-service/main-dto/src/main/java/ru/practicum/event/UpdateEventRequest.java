@@ -33,4 +33,5 @@ public abstract class UpdateEventRequest {
     private Boolean requestModeration;
     @Size(min = 3, max = 120, message = "Event title length must be between 3 and 120 characters")
     private String title;
-}
\ No newline at end of file
+    private Long version;
+}
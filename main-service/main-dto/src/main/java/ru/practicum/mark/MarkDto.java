@@ -1,6 +1,7 @@
 package ru.practicum.mark;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class MarkDto {
     private Long id;
     private Long userId;
@@ -16,4 +18,5 @@ public class MarkDto {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime markedOn;
     private String message;
+    private Long version;
 }
\ No newline at end of file
@@ -19,4 +19,5 @@ public class UpdateMarkRequest {
     private Integer mark;
     @Size(min = 3, max = 1000, message = "Message length must be between 3 and 1000 characters")
     private String message;
-}
\ No newline at end of file
+    private Long version;
+}
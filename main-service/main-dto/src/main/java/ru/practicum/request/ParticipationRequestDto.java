@@ -12,4 +12,5 @@ public class ParticipationRequestDto {
     private Long event;
     private Long requester;
     private Status status;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package ru.practicum.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import ru.practicum.enums.Status;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class RequestView {
+    private long id;
+    private LocalDateTime created;
+    private long eventId;
+    private long requesterId;
+    private Status status;
+    private long version;
+}
@@ -1,10 +1,12 @@
 package ru.practicum.user;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class UserDto {
     private Long id;
     private String name;
@@ -0,0 +1,30 @@
+package ru.practicum.area;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+
+@RestController
+@RequestMapping("/admin/areas")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminAreaController {
+    private final AreaService areaService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public AreaDto addArea(@RequestBody @Valid NewAreaDto newAreaDto) {
+        log.info("Получен запрос POST /admin/areas\nТело запроса: {}", newAreaDto);
+        return areaService.createArea(newAreaDto);
+    }
+
+    @DeleteMapping("/{areaId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteArea(@PathVariable long areaId) {
+        log.info("Получен запрос DELETE /admin/areas/{}", areaId);
+        areaService.deleteArea(areaId);
+    }
+}
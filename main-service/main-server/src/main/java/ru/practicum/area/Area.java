@@ -0,0 +1,54 @@
+package ru.practicum.area;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+@Entity
+@Table(name = "areas", indexes = @Index(name = "ix_areas_lat_range", columnList = "min_lat, max_lat"))
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Area {
+    private static final double KM_PER_DEGREE = Math.PI * 6371.0 / 180;
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "areas_seq")
+    @SequenceGenerator(name = "areas_seq", sequenceName = "areas_seq", allocationSize = 50)
+    private Long id;
+    @Column(nullable = false, unique = true, length = 120)
+    private String name;
+    @Column(nullable = false)
+    private Double lat;
+    @Column(nullable = false)
+    private Double lon;
+    @Column(nullable = false)
+    private Double radius;
+    @Column(name = "min_lat", nullable = false)
+    private Double minLat;
+    @Column(name = "max_lat", nullable = false)
+    private Double maxLat;
+
+    @PrePersist
+    @PreUpdate
+    void updateLatitudeRange() {
+        minLat = lat - radius / KM_PER_DEGREE;
+        maxLat = lat + radius / KM_PER_DEGREE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Area area = (Area) o;
+        return Objects.equals(id, area.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
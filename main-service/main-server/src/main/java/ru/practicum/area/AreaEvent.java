@@ -0,0 +1,30 @@
+package ru.practicum.area;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+@Entity
+@Table(name = "area_events", indexes = @Index(name = "ix_area_events_event_id", columnList = "event_id"))
+@IdClass(AreaEvent.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AreaEvent {
+    @Id
+    @Column(name = "area_id")
+    private Long areaId;
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long areaId;
+        private Long eventId;
+    }
+}
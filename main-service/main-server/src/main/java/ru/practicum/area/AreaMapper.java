@@ -0,0 +1,19 @@
+package ru.practicum.area;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class AreaMapper {
+    public AreaDto toDto(Area area) {
+        return new AreaDto(area.getId(), area.getName(), area.getLat(), area.getLon(), area.getRadius());
+    }
+
+    public Area fromDto(NewAreaDto newAreaDto) {
+        return Area.builder()
+                .name(newAreaDto.getName())
+                .lat(newAreaDto.getLat())
+                .lon(newAreaDto.getLon())
+                .radius(newAreaDto.getRadius())
+                .build();
+    }
+}
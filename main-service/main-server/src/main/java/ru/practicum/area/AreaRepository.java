@@ -0,0 +1,31 @@
+package ru.practicum.area;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AreaRepository extends JpaRepository<Area, Long> {
+    @Query("select a from Area as a where a.minLat <= ?1 and a.maxLat >= ?1")
+    List<Area> findAllByLatitude(double lat);
+
+    @Modifying
+    @Query(value = "insert into area_events (area_id, event_id) " +
+            "select ?1, e.id from events as e where e.id in ?2", nativeQuery = true)
+    int addEvents(long areaId, Collection<Long> eventIds);
+
+    @Modifying
+    @Query(value = "insert into area_events (area_id, event_id) " +
+            "select a.id, ?1 from areas as a where a.id in ?2", nativeQuery = true)
+    int addEventToAreas(long eventId, Collection<Long> areaIds);
+
+    @Modifying
+    @Query("delete from AreaEvent as ae where ae.eventId = ?1")
+    int removeEvent(long eventId);
+
+    @Modifying
+    @Query("delete from AreaEvent as ae where ae.areaId = ?1")
+    int removeArea(long areaId);
+}
@@ -0,0 +1,17 @@
+package ru.practicum.area;
+
+import ru.practicum.event.Event;
+
+import java.util.List;
+
+public interface AreaService {
+    List<AreaDto> getAreas(int from, int size);
+
+    AreaDto getAreaById(long areaId);
+
+    AreaDto createArea(NewAreaDto newAreaDto);
+
+    void deleteArea(long areaId);
+
+    void updateEventAreas(Event event);
+}
@@ -0,0 +1,97 @@
+package ru.practicum.area;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.event.Event;
+import ru.practicum.event.EventLocation;
+import ru.practicum.event.EventRepository;
+import ru.practicum.event.GeoKey;
+import ru.practicum.exception.NotFoundException;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("ewm.service")
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class AreaServiceImpl implements AreaService {
+    private final AreaRepository areaRepository;
+    private final EventRepository eventRepository;
+    private final ResourceVersions resourceVersions;
+
+    @Override
+    public List<AreaDto> getAreas(int from, int size) {
+        List<Area> areas = areaRepository.findAll(PageRequest.of(from / size, size)).getContent();
+        log.info("Возвращен список зон: количество={}", areas.size());
+        log.debug("Возвращен список зон: {}", areas);
+
+        return areas.stream().map(AreaMapper::toDto).collect(Collectors.toList());
+    }
+
+    @Override
+    public AreaDto getAreaById(long areaId) {
+        Area area = getArea(areaId);
+        log.info("Возвращена зона с id={}", area.getId());
+        log.debug("Возвращена зона: {}", area);
+
+        return AreaMapper.toDto(area);
+    }
+
+    @Override
+    @Transactional
+    public AreaDto createArea(NewAreaDto newAreaDto) {
+        Area area = areaRepository.save(AreaMapper.fromDto(newAreaDto));
+        Set<Long> eventIds = eventRepository
+                .findLocations(GeoKey.near(area.getLat(), area.getLon(), area.getRadius())).stream()
+                .filter(event -> GeoKey.isWithin(event, area.getLat(), area.getLon(), area.getRadius()))
+                .map(EventLocation::getId)
+                .collect(Collectors.toSet());
+        if (!eventIds.isEmpty()) {
+            areaRepository.addEvents(area.getId(), eventIds);
+        }
+        resourceVersions.bump(Resource.EVENTS);
+        log.info("Добавлена новая зона с id={}, событий в зоне: {}", area.getId(), eventIds.size());
+        log.debug("Добавлена новая зона: {}", area);
+
+        return AreaMapper.toDto(area);
+    }
+
+    @Override
+    @Transactional
+    public void deleteArea(long areaId) {
+        getArea(areaId);
+        areaRepository.removeArea(areaId);
+        areaRepository.deleteById(areaId);
+        resourceVersions.bump(Resource.EVENTS);
+        log.info("Удалена зона с id={}", areaId);
+    }
+
+    @Override
+    @Transactional
+    public void updateEventAreas(Event event) {
+        areaRepository.removeEvent(event.getId());
+        Set<Long> areaIds = areaRepository.findAllByLatitude(event.getLat()).stream()
+                .filter(area -> GeoKey.distanceKm(area.getLat(), area.getLon(), event.getLat(), event.getLon())
+                        <= area.getRadius())
+                .map(Area::getId)
+                .collect(Collectors.toSet());
+        if (!areaIds.isEmpty()) {
+            areaRepository.addEventToAreas(event.getId(), areaIds);
+        }
+        log.debug("Обновлены зоны события с id={}: {}", event.getId(), areaIds);
+    }
+
+    private Area getArea(long areaId) {
+        return areaRepository.findById(areaId)
+                .orElseThrow(() -> new NotFoundException("Area with id=" + areaId + " was not found"));
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.area;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
+
+@RestController
+@RequestMapping("/areas")
+@RequiredArgsConstructor
+@Slf4j
+public class PublicAreaController {
+    private final AreaService areaService;
+
+    @GetMapping
+    public List<AreaDto> getAreas(@RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                  @RequestParam(defaultValue = "10") @Positive int size) {
+        log.info("Получен запрос GET /areas?from={}&size={}", from, size);
+        return areaService.getAreas(from, size);
+    }
+
+    @GetMapping("/{areaId}")
+    public AreaDto getAreaById(@PathVariable long areaId) {
+        log.info("Получен запрос GET /areas/{}", areaId);
+        return areaService.getAreaById(areaId);
+    }
+}
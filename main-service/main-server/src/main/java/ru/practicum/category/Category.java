@@ -15,8 +15,12 @@ import java.util.Objects;
 @Builder
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = 50)
     private Long id;
+    @Version
+    @Column(nullable = false)
+    private Long version;
     @Column(nullable = false, unique = true, length = 50)
     private String name;
 
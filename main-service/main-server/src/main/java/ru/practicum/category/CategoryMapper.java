@@ -5,7 +5,7 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class CategoryMapper {
     public CategoryDto toDto(Category category) {
-        return new CategoryDto(category.getId(), category.getName());
+        return new CategoryDto(category.getId(), category.getName(), category.getVersion());
     }
 
     public Category fromDto(NewCategoryDto newCategoryDto) {
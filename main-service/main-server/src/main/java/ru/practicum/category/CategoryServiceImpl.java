@@ -1,29 +1,39 @@
 package ru.practicum.category;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.concurrency.RetryOnConflict;
+import ru.practicum.concurrency.Versions;
+import ru.practicum.event.EventCache;
 import ru.practicum.event.EventRepository;
 import ru.practicum.exception.IllegalOperationException;
 import ru.practicum.exception.NotFoundException;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final EventRepository eventRepository;
+    private final EventCache eventCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public List<CategoryDto> getCategories(int from, int size) {
         List<Category> categories = categoryRepository.findAll(PageRequest.of(from / size, size)).getContent();
-        log.info("Возвращен список категорий: {}", categories);
+        log.info("Возвращен список категорий: количество={}", categories.size());
+        log.debug("Возвращен список категорий: {}", categories);
 
         return categories.stream().map(CategoryMapper::toDto).collect(Collectors.toList());
     }
@@ -31,7 +41,8 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public CategoryDto getCategoryById(long catId) {
         Category category = getCategory(catId);
-        log.info("Возвращена категория: {}", category);
+        log.info("Возвращена категория с id={}", category.getId());
+        log.debug("Возвращена категория: {}", category);
 
         return CategoryMapper.toDto(category);
     }
@@ -41,7 +52,9 @@ public class CategoryServiceImpl implements CategoryService {
     public CategoryDto createCategory(NewCategoryDto newCategoryDto) {
         Category category = CategoryMapper.fromDto(newCategoryDto);
         Category newCategory = categoryRepository.save(category);
-        log.info("Добавлена новая категория: {}", newCategory);
+        resourceVersions.bump(Resource.CATEGORIES);
+        log.info("Добавлена новая категория с id={}", newCategory.getId());
+        log.debug("Добавлена новая категория: {}", newCategory);
 
         return CategoryMapper.toDto(newCategory);
     }
@@ -54,15 +67,22 @@ public class CategoryServiceImpl implements CategoryService {
             throw new IllegalOperationException("The category is not empty");
         }
         categoryRepository.deleteById(catId);
+        resourceVersions.bump(Resource.CATEGORIES);
         log.info("Удалена категория с id={}", catId);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public CategoryDto updateCategory(long catId, CategoryDto categoryDto) {
         Category category = getCategory(catId);
+        Versions.check("Category", catId, categoryDto.getVersion(), category.getVersion());
         category.setName(categoryDto.getName());
-        log.info("Обновлена категория: {}", category);
+        categoryRepository.flush();
+        eventCache.evictAllEvents();
+        resourceVersions.bump(Resource.CATEGORIES);
+        log.info("Обновлена категория с id={}", category.getId());
+        log.debug("Обновлена категория: {}", category);
 
         return CategoryMapper.toDto(category);
     }
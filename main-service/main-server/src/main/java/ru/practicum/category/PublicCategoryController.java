@@ -3,6 +3,9 @@ package ru.practicum.category;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
@@ -14,17 +17,25 @@ import java.util.List;
 @Slf4j
 public class PublicCategoryController {
     private final CategoryService categoryService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
     public List<CategoryDto> getCategories(@RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                           @RequestParam(defaultValue = "10") @Positive int size) {
+                                           @RequestParam(defaultValue = "10") @Positive int size,
+                                           WebRequest webRequest) {
         log.info("Получен запрос GET /categories?from={}&size={}", from, size);
+        if (webRequest.checkNotModified(resourceVersions.getETag(Resource.CATEGORIES))) {
+            return null;
+        }
         return categoryService.getCategories(from, size);
     }
 
     @GetMapping("/{catId}")
-    public CategoryDto getCategoryById(@PathVariable long catId) {
+    public CategoryDto getCategoryById(@PathVariable long catId, WebRequest webRequest) {
         log.info("Получен запрос GET /categories/{}", catId);
+        if (webRequest.checkNotModified(resourceVersions.getETag(Resource.CATEGORIES))) {
+            return null;
+        }
         return categoryService.getCategoryById(catId);
     }
 }
\ No newline at end of file
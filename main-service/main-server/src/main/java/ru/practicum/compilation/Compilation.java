@@ -17,8 +17,12 @@ import java.util.Set;
 @Builder
 public class Compilation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "compilations_seq")
+    @SequenceGenerator(name = "compilations_seq", sequenceName = "compilations_seq", allocationSize = 50)
     private Long id;
+    @Version
+    @Column(nullable = false)
+    private Long version;
     @ManyToMany
     @JoinTable(
             name = "compilation_event",
@@ -0,0 +1,11 @@
+package ru.practicum.compilation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompilationEvent {
+    private Long compilationId;
+    private Long eventId;
+}
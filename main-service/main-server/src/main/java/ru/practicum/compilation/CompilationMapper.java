@@ -3,6 +3,7 @@ package ru.practicum.compilation;
 import lombok.experimental.UtilityClass;
 import ru.practicum.event.Event;
 import ru.practicum.event.EventMapper;
+import ru.practicum.event.EventShortDto;
 
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -10,11 +11,18 @@ import java.util.stream.Collectors;
 @UtilityClass
 public class CompilationMapper {
     public CompilationDto toDto(Compilation compilation) {
+        return toDto(compilation, compilation.getEvents().stream()
+                .map(EventMapper::toShortDto)
+                .collect(Collectors.toSet()));
+    }
+
+    public CompilationDto toDto(Compilation compilation, Set<EventShortDto> events) {
         return CompilationDto.builder()
                 .id(compilation.getId())
-                .events(compilation.getEvents().stream().map(EventMapper::toShortDto).collect(Collectors.toSet()))
+                .events(events)
                 .pinned(compilation.getPinned())
                 .title(compilation.getTitle())
+                .version(compilation.getVersion())
                 .build();
     }
 
@@ -3,7 +3,17 @@ package ru.practicum.compilation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CompilationRepository extends JpaRepository<Compilation, Long> {
     Page<Compilation> findAllByPinned(boolean pinned, Pageable page);
+
+    @Query("select new ru.practicum.compilation.CompilationEvent(c.id, e.id) " +
+            "from Compilation as c " +
+            "join c.events as e " +
+            "where c.id in ?1")
+    List<CompilationEvent> findCompilationEvents(Collection<Long> compIds);
 }
\ No newline at end of file
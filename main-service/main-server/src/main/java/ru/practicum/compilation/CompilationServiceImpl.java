@@ -1,26 +1,34 @@
 package ru.practicum.compilation;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.concurrency.RetryOnConflict;
+import ru.practicum.concurrency.Versions;
 import ru.practicum.event.Event;
+import ru.practicum.event.EventMapper;
 import ru.practicum.event.EventRepository;
+import ru.practicum.event.EventShortDto;
+import ru.practicum.event.EventShortView;
 import ru.practicum.exception.NotFoundException;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class CompilationServiceImpl implements CompilationService {
     private final CompilationRepository compilationRepository;
     private final EventRepository eventRepository;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public List<CompilationDto> getCompilations(Boolean pinned, int from, int size) {
@@ -33,18 +41,27 @@ public class CompilationServiceImpl implements CompilationService {
         } else {
             compilations = compilationRepository.findAll(PageRequest.of(from / size, size)).getContent();
         }
+        Map<Long, Set<EventShortDto>> events = getCompilationEvents(compilations.stream()
+                .map(Compilation::getId)
+                .collect(Collectors.toList()));
+        log.info("Возвращен список подборок: количество={}", compilations.size());
+        log.debug("Возвращен список подборок: {}", compilations);
 
-        log.info("Возвращен список подборок: {}", compilations);
-
-        return compilations.stream().map(CompilationMapper::toDto).collect(Collectors.toList());
+        return compilations.stream()
+                .map(compilation -> CompilationMapper.toDto(compilation,
+                        events.getOrDefault(compilation.getId(), Collections.emptySet())))
+                .collect(Collectors.toList());
     }
 
     @Override
     public CompilationDto getCompilationById(long compId) {
         Compilation compilation = getCompilation(compId);
-        log.info("Возвращена подборка: {}", compilation);
+        Set<EventShortDto> events = getCompilationEvents(List.of(compId))
+                .getOrDefault(compId, Collections.emptySet());
+        log.info("Возвращена подборка с id={}", compilation.getId());
+        log.debug("Возвращена подборка: {}", compilation);
 
-        return CompilationMapper.toDto(compilation);
+        return CompilationMapper.toDto(compilation, events);
     }
 
     @Override
@@ -56,7 +73,9 @@ public class CompilationServiceImpl implements CompilationService {
         }
         Compilation compilation = CompilationMapper.fromDto(newCompilationDto, events);
         Compilation newCompilation = compilationRepository.save(compilation);
-        log.info("Добавлена новая подборка: {}", newCompilation);
+        resourceVersions.bump(Resource.COMPILATIONS);
+        log.info("Добавлена новая подборка с id={}", newCompilation.getId());
+        log.debug("Добавлена новая подборка: {}", newCompilation);
 
         return CompilationMapper.toDto(compilation);
     }
@@ -66,13 +85,17 @@ public class CompilationServiceImpl implements CompilationService {
     public void deleteCompilation(long compId) {
         getCompilation(compId);
         compilationRepository.deleteById(compId);
+        resourceVersions.bump(Resource.COMPILATIONS);
         log.info("Удалена подборка с id={}", compId);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public CompilationDto updateCompilation(long compId, UpdateCompilationRequest updateCompilationRequest) {
         Compilation compilation = getCompilation(compId);
+        Versions.check("Compilation", compId, updateCompilationRequest.getVersion(), compilation.getVersion());
+        resourceVersions.bump(Resource.COMPILATIONS);
         Set<Long> eventsForUpdate = updateCompilationRequest.getEvents();
         Boolean pinnedForUpdate = updateCompilationRequest.getPinned();
         String titleForUpdate = updateCompilationRequest.getTitle();
@@ -85,11 +108,31 @@ public class CompilationServiceImpl implements CompilationService {
         if (titleForUpdate != null && !titleForUpdate.isBlank()) {
             compilation.setTitle(titleForUpdate);
         }
-        log.info("Обновлена подборка: {}", compilation);
+        compilationRepository.flush();
+        log.info("Обновлена подборка с id={}", compilation.getId());
+        log.debug("Обновлена подборка: {}", compilation);
 
         return CompilationMapper.toDto(compilation);
     }
 
+    private Map<Long, Set<EventShortDto>> getCompilationEvents(Collection<Long> compIds) {
+        List<CompilationEvent> compilationEvents = compIds.isEmpty()
+                ? Collections.emptyList()
+                : compilationRepository.findCompilationEvents(compIds);
+        if (compilationEvents.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, EventShortDto> events = eventRepository.findShortViews(compilationEvents.stream()
+                        .map(CompilationEvent::getEventId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(EventShortView::getId, EventMapper::toShortDto));
+
+        return compilationEvents.stream()
+                .collect(Collectors.groupingBy(CompilationEvent::getCompilationId,
+                        Collectors.mapping(compilationEvent -> events.get(compilationEvent.getEventId()),
+                                Collectors.toSet())));
+    }
+
     private Compilation getCompilation(long compId) {
         return compilationRepository.findById(compId)
                 .orElseThrow(() -> new NotFoundException("Compilation with id=" + compId + " was not found"));
@@ -3,6 +3,9 @@ package ru.practicum.compilation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
@@ -14,18 +17,28 @@ import java.util.List;
 @Slf4j
 public class PublicCompilationController {
     private final CompilationService compilationService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
     public List<CompilationDto> getCompilations(@RequestParam(required = false) Boolean pinned,
                                                 @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                                @RequestParam(defaultValue = "10") @Positive int size) {
+                                                @RequestParam(defaultValue = "10") @Positive int size,
+                                                WebRequest webRequest) {
         log.info("Получен запрос GET /compilations?from={}&size={}\nПараметры:\npinned={}", from, size, pinned);
+        if (webRequest.checkNotModified(
+                resourceVersions.getETag(Resource.COMPILATIONS, Resource.EVENTS, Resource.CATEGORIES))) {
+            return null;
+        }
         return compilationService.getCompilations(pinned, from, size);
     }
 
     @GetMapping("/{compId}")
-    public CompilationDto getCompilationById(@PathVariable long compId) {
+    public CompilationDto getCompilationById(@PathVariable long compId, WebRequest webRequest) {
         log.info("Получен запрос GET /compilations/{}", compId);
+        if (webRequest.checkNotModified(
+                resourceVersions.getETag(Resource.COMPILATIONS, Resource.EVENTS, Resource.CATEGORIES))) {
+            return null;
+        }
         return compilationService.getCompilationById(compId);
     }
 }
\ No newline at end of file
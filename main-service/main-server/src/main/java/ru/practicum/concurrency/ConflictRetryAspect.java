@@ -0,0 +1,40 @@
+package ru.practicum.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ConflictRetryAspect {
+    @Value("${conflict-retry.max-attempts}")
+    private int maxAttempts;
+    @Value("${conflict-retry.backoff-ms}")
+    private long backoffMs;
+
+    @Around("@annotation(ru.practicum.concurrency.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                log.warn("Конфликт версий в {}, попытка {} из {}",
+                        joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.concurrency;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.exception.IllegalOperationException;
+
+@UtilityClass
+public class Versions {
+    public void check(String entity, long id, Long expected, Long actual) {
+        if (expected != null && !expected.equals(actual)) {
+            throw new IllegalOperationException(
+                    entity + " with id=" + id + " has version " + actual + ", but version " + expected + " was expected"
+            );
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import java.util.Collections;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/moderation/events")
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class AdminModerationController {
+    private final EventService eventService;
+    private final ModerationStream moderationStream;
+    @Value("${moderation.replay-size}")
+    private int replaySize;
+
+    @GetMapping
+    public ModerationQueueDto getModerationQueue(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "50") @Positive @Max(1000) int size) {
+        log.info("Получен запрос GET /admin/moderation/events?cursor={}&size={}", cursor, size);
+        return eventService.getModerationQueue(cursor, size);
+    }
+
+    @PatchMapping
+    public List<EventFullDto> moderateEvents(@RequestBody @Valid ModerationRequest moderationRequest) {
+        log.info("Получен запрос PATCH /admin/moderation/events: действие={}, количество={}",
+                moderationRequest.getStateAction(), moderationRequest.getEventIds().size());
+        log.debug("Тело запроса: {}", moderationRequest);
+        return eventService.moderateEvents(moderationRequest);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPendingEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Получен запрос GET /admin/moderation/events/stream, Last-Event-ID={}", lastEventId);
+        List<EventFullDto> backlog = lastEventId == null
+                ? Collections.emptyList()
+                : eventService.getModerationQueue(lastEventId, replaySize).getEvents();
+        return moderationStream.subscribe(backlog);
+    }
+}
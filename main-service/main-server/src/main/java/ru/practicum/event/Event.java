@@ -10,7 +10,14 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "ix_events_geo_key", columnList = "geo_key"),
+        @Index(name = "ix_events_state_event_date_id", columnList = "state, event_date, id"),
+        @Index(name = "ix_events_initiator_id_event_date_id", columnList = "initiator_id, event_date, id"),
+        @Index(name = "ix_events_category_id_event_date_id", columnList = "category_id, event_date, id"),
+        @Index(name = "ix_events_event_date_id", columnList = "event_date, id"),
+        @Index(name = "ix_events_state_created_on_id", columnList = "state, created_on, id")
+})
 @Getter
 @Setter
 @ToString
@@ -19,15 +26,20 @@ import java.util.Objects;
 @Builder
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
+    @Version
+    @Column(nullable = false)
+    private Long version;
     @Column(nullable = false, length = 2000)
     private String annotation;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     @ToString.Exclude
     private Category category;
-    @Transient
+    @Column(name = "confirmed_requests", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0")
     private long confirmedRequests;
     @Column(name = "created_on", nullable = false)
     private LocalDateTime createdOn;
@@ -43,6 +55,8 @@ public class Event {
     private Double lat;
     @Column(nullable = false)
     private Double lon;
+    @Column(name = "geo_key", nullable = false)
+    private Long geoKey;
     @Column(nullable = false)
     private Boolean paid;
     @Column(name = "participant_limit", nullable = false)
@@ -60,6 +74,12 @@ public class Event {
     @Transient
     private long views;
 
+    @PrePersist
+    @PreUpdate
+    void updateGeoKey() {
+        geoKey = GeoKey.encode(lat, lon);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,118 @@
+package ru.practicum.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventCache {
+    private final ObjectProvider<SharedEventCache> sharedEventCache;
+    @Value("${event-cache.maximum-size}")
+    private long maximumSize;
+    @Value("${event-cache.event-ttl-ms}")
+    private long eventTtlMs;
+    @Value("${event-cache.views-ttl-ms}")
+    private long viewsTtlMs;
+    @Value("${event-cache.confirmed-requests-ttl-ms}")
+    private long confirmedRequestsTtlMs;
+    @Value("${event-cache.rating-ttl-ms}")
+    private long ratingTtlMs;
+    private Cache<Long, EventFullDto> events;
+    private Cache<Long, Long> views;
+    private Cache<Long, Long> confirmedRequests;
+    private Cache<Long, Double> ratings;
+
+    @PostConstruct
+    public void init() {
+        events = build(eventTtlMs);
+        views = build(viewsTtlMs);
+        confirmedRequests = build(confirmedRequestsTtlMs);
+        ratings = build(ratingTtlMs);
+    }
+
+    public EventFullDto getEvent(long eventId, LongFunction<EventFullDto> loader) {
+        return events.get(eventId, id -> {
+            SharedEventCache shared = sharedEventCache.getIfAvailable();
+            if (shared != null) {
+                EventFullDto event = shared.get(id).orElse(null);
+                if (event != null) {
+                    return event;
+                }
+            }
+            EventFullDto event = loader.apply(id);
+            if (shared != null) {
+                shared.put(id, event);
+            }
+            log.debug("Событие с id={} загружено в кэш", id);
+
+            return event;
+        });
+    }
+
+    public long getViews(long eventId, LongSupplier loader) {
+        return views.get(eventId, id -> loader.getAsLong());
+    }
+
+    public long getConfirmedRequests(long eventId, LongSupplier loader) {
+        return confirmedRequests.get(eventId, id -> loader.getAsLong());
+    }
+
+    public double getRating(long eventId, DoubleSupplier loader) {
+        return ratings.get(eventId, id -> loader.getAsDouble());
+    }
+
+    public void evictEvent(long eventId) {
+        onCommit(() -> {
+            events.invalidate(eventId);
+            sharedEventCache.ifAvailable(shared -> shared.evict(eventId));
+        });
+    }
+
+    public void evictAllEvents() {
+        onCommit(() -> {
+            events.invalidateAll();
+            sharedEventCache.ifAvailable(SharedEventCache::clear);
+        });
+    }
+
+    public void evictConfirmedRequests(long eventId) {
+        onCommit(() -> confirmedRequests.invalidate(eventId));
+    }
+
+    public void evictRating(long eventId) {
+        onCommit(() -> ratings.invalidate(eventId));
+    }
+
+    private void onCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private <V> Cache<Long, V> build(long ttlMs) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import ru.practicum.execution.VirtualThreads;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class EventEnrichment {
+    @Value("${event-enrichment.pool-size}")
+    private int poolSize;
+    @Value("${event-enrichment.queue-capacity}")
+    private int queueCapacity;
+    @Value("${event-enrichment.hit-timeout-ms}")
+    private long hitTimeoutMs;
+    @Value("${event-enrichment.rating-timeout-ms}")
+    private long ratingTimeoutMs;
+    @Value("${event-enrichment.views-timeout-ms}")
+    private long viewsTimeoutMs;
+    @Value("${execution.virtual-threads:false}")
+    private boolean virtualThreads;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = virtualThreads
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+                : new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("event-enrichment-"),
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public CompletableFuture<Void> addHit(Runnable hit) {
+        return supply("hit", () -> {
+            hit.run();
+            return null;
+        }, hitTimeoutMs, null);
+    }
+
+    public CompletableFuture<Map<Long, Double>> getRatings(Supplier<Map<Long, Double>> loader) {
+        return supply("rating", loader, ratingTimeoutMs, Collections.emptyMap());
+    }
+
+    public CompletableFuture<Map<Long, Long>> getViews(Supplier<Map<Long, Long>> loader) {
+        return supply("views", loader, viewsTimeoutMs, Collections.emptyMap());
+    }
+
+    private <T> CompletableFuture<T> supply(String source, Supplier<T> loader, long timeoutMs, T fallback) {
+        return CompletableFuture.supplyAsync(loader, executor)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Источник {} недоступен, используется значение по умолчанию: {}", source, ex.toString());
+                    return fallback;
+                });
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventFacetCount {
+    private Long categoryId;
+    private Boolean paid;
+    private Long total;
+    private Long past;
+    private Long nextWeek;
+    private Long nextMonth;
+}
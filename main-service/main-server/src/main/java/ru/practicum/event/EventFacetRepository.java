@@ -0,0 +1,14 @@
+package ru.practicum.event;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventFacetRepository {
+    List<EventFacetCount> countFacets(Specification<Event> specification,
+                                      Double lat,
+                                      Double lon,
+                                      double radius,
+                                      LocalDateTime now);
+}
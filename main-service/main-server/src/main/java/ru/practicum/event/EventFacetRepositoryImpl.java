@@ -0,0 +1,48 @@
+package ru.practicum.event;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class EventFacetRepositoryImpl implements EventFacetRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventFacetCount> countFacets(Specification<Event> specification,
+                                             Double lat,
+                                             Double lon,
+                                             double radius,
+                                             LocalDateTime now) {
+        if (lat != null) {
+            specification = specification.and(GeoKey.near(lat, lon, radius)).and(GeoKey.within(lat, lon, radius));
+        }
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventFacetCount> query = builder.createQuery(EventFacetCount.class);
+        Root<Event> event = query.from(Event.class);
+        Path<Long> categoryId = event.get("category").get("id");
+        Path<Boolean> paid = event.get("paid");
+        Path<LocalDateTime> eventDate = event.get("eventDate");
+        query.select(builder.construct(EventFacetCount.class,
+                        categoryId,
+                        paid,
+                        builder.count(event),
+                        countUntil(builder, eventDate, now),
+                        countUntil(builder, eventDate, now.plusWeeks(1)),
+                        countUntil(builder, eventDate, now.plusMonths(1))))
+                .where(specification.toPredicate(event, query, builder))
+                .groupBy(categoryId, paid);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private Expression<Long> countUntil(CriteriaBuilder builder, Path<LocalDateTime> eventDate, LocalDateTime until) {
+        return builder.sum(builder.<Long>selectCase()
+                .when(builder.lessThanOrEqualTo(eventDate, until), 1L)
+                .otherwise(0L));
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventLocation {
+    private Long id;
+    private Double lat;
+    private Double lon;
+}
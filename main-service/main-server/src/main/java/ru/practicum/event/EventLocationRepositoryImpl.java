@@ -0,0 +1,26 @@
+package ru.practicum.event;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+public class EventLocationRepositoryImpl implements EventLocationRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventLocation> findLocations(Specification<Event> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventLocation> query = builder.createQuery(EventLocation.class);
+        Root<Event> event = query.from(Event.class);
+        query.select(builder.construct(EventLocation.class, event.get("id"), event.get("lat"), event.get("lon")))
+                .where(specification.toPredicate(event, query, builder));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
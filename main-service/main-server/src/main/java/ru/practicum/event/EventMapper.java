@@ -1,11 +1,14 @@
 package ru.practicum.event;
 
 import lombok.experimental.UtilityClass;
+import ru.practicum.category.CategoryDto;
 import ru.practicum.category.CategoryMapper;
 import ru.practicum.enums.State;
 import ru.practicum.user.UserMapper;
+import ru.practicum.user.UserShortDto;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @UtilityClass
 public class EventMapper {
@@ -28,6 +31,7 @@ public class EventMapper {
                 .state(event.getState())
                 .title(event.getTitle())
                 .views(event.getViews())
+                .version(event.getVersion())
                 .build();
     }
 
@@ -46,10 +50,28 @@ public class EventMapper {
                 .build();
     }
 
+    public EventShortDto toShortDto(EventShortView event) {
+        return EventShortDto.builder()
+                .id(event.getId())
+                .annotation(event.getAnnotation())
+                .category(new CategoryDto(event.getCategoryId(), event.getCategoryName(), event.getCategoryVersion()))
+                .confirmedRequests(event.getConfirmedRequests())
+                .eventDate(event.getEventDate())
+                .initiator(UserShortDto.builder()
+                        .id(event.getInitiatorId())
+                        .name(event.getInitiatorName())
+                        .build())
+                .paid(event.getPaid())
+                .rating(event.getRating())
+                .title(event.getTitle())
+                .views(event.getViews())
+                .build();
+    }
+
     public Event fromDto(NewEventDto newEventDto) {
         return Event.builder()
                 .annotation(newEventDto.getAnnotation())
-                .createdOn(LocalDateTime.now())
+                .createdOn(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
                 .description(newEventDto.getDescription())
                 .eventDate(newEventDto.getEventDate())
                 .lat(newEventDto.getLocation().getLat())
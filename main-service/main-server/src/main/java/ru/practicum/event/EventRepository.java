@@ -1,12 +1,62 @@
 package ru.practicum.event;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.enums.State;
 
-public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
-    Page<Event> findAllByInitiatorId(long userId, Pageable page);
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>,
+        EventFacetRepository, EventLocationRepository, EventShortViewRepository {
+    String SHORT_VIEW = "select new ru.practicum.event.EventShortView(e.id, e.annotation, c.id, c.name, c.version, " +
+            "e.confirmedRequests, e.eventDate, u.id, u.name, e.paid, e.title, e.publishedOn, e.lat, e.lon) " +
+            "from Event as e " +
+            "join e.category as c " +
+            "join e.initiator as u ";
+
+    @Query(SHORT_VIEW + "where e.initiator.id = ?1")
+    List<EventShortView> findInitiatorShortViews(long userId, Pageable page);
+
+    @Query(SHORT_VIEW + "where e.id in ?1")
+    List<EventShortView> findShortViews(Collection<Long> ids);
+
+    @Query(SHORT_VIEW + "where e.id in ?1 and e.state = ?2")
+    List<EventShortView> findShortViews(Collection<Long> ids, State state);
 
     boolean existsEventByCategoryId(long catId);
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = {"category", "initiator"})
+    List<Event> findAllByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"category", "initiator"})
+    @Query("select e from Event as e where e.state = ?1 order by e.createdOn, e.id")
+    List<Event> findQueue(State state, Pageable page);
+
+    @EntityGraph(attributePaths = {"category", "initiator"})
+    @Query("select e from Event as e " +
+            "where e.state = ?1 and e.createdOn >= ?2 and (e.createdOn > ?2 or e.id > ?3) " +
+            "order by e.createdOn, e.id")
+    List<Event> findQueueAfter(State state, LocalDateTime createdOn, long id, Pageable page);
+
+    @Query("select e.confirmedRequests from Event as e where e.id = ?1")
+    Optional<Long> findConfirmedRequestsById(long eventId);
+
+    @Modifying
+    @Query("update Event as e " +
+            "set e.confirmedRequests = e.confirmedRequests + ?2 " +
+            "where e.id = ?1 and (e.participantLimit = 0 or e.confirmedRequests + ?2 <= e.participantLimit)")
+    int reserveSlots(long eventId, long count);
+
+    @Modifying
+    @Query("update Event as e " +
+            "set e.confirmedRequests = e.confirmedRequests - ?2 " +
+            "where e.id = ?1 and e.confirmedRequests >= ?2")
+    int releaseSlots(long eventId, long count);
+}
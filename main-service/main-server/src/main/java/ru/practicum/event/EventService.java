@@ -21,6 +21,10 @@ public interface EventService {
 
     EventFullDto updateEventByAdmin(long eventId, UpdateEventAdminRequest updateEventAdminRequest);
 
+    ModerationQueueDto getModerationQueue(String cursor, int size);
+
+    List<EventFullDto> moderateEvents(ModerationRequest moderationRequest);
+
     List<EventShortDto> getPublishedEvents(String text,
                                           Set<Long> categories,
                                           Boolean paid,
@@ -28,12 +32,33 @@ public interface EventService {
                                           LocalDateTime rangeEnd,
                                           boolean onlyAvailable,
                                           String sort,
+                                          Double lat,
+                                          Double lon,
+                                          double radius,
+                                          Long area,
                                           int from,
                                           int size,
                                           HttpServletRequest request);
 
+    EventFacetsDto getPublishedEventFacets(String text,
+                                           Set<Long> categories,
+                                           Boolean paid,
+                                           LocalDateTime rangeStart,
+                                           LocalDateTime rangeEnd,
+                                           boolean onlyAvailable,
+                                           Double lat,
+                                           Double lon,
+                                           double radius,
+                                           Long area);
+
     EventFullDto getPublishedEventById(long id, HttpServletRequest request);
 
+    List<EventShortDto> getTrendingEvents(Long category, int size, HttpServletRequest request);
+
+    void addEventHit(long id, HttpServletRequest request);
+
+    void addHit(HttpServletRequest request);
+
     List<EventShortDto> getUserEvents(long userId, int from, int size);
 
     EventFullDto addNewEvent(long userId, NewEventDto newEventDto);
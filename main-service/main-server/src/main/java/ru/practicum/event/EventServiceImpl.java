@@ -1,17 +1,23 @@
 package ru.practicum.event;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.EndpointHitDto;
 import ru.practicum.StatsClient;
 import ru.practicum.ViewStats;
+import ru.practicum.area.AreaEvent;
+import ru.practicum.area.AreaService;
 import ru.practicum.category.Category;
 import ru.practicum.category.CategoryRepository;
+import ru.practicum.concurrency.RetryOnConflict;
+import ru.practicum.concurrency.Versions;
 import ru.practicum.enums.State;
 import ru.practicum.enums.StateActionAdmin;
 import ru.practicum.enums.StateActionUser;
@@ -20,26 +26,41 @@ import ru.practicum.exception.IllegalOperationException;
 import ru.practicum.exception.NotFoundException;
 import ru.practicum.mark.MarkRepository;
 import ru.practicum.request.*;
+import ru.practicum.trending.TrendingEngine;
 import ru.practicum.user.Initiator;
 import ru.practicum.user.User;
 import ru.practicum.user.UserRepository;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
 public class EventServiceImpl implements EventService {
+    private static final Sort ADMIN_SORT = Sort.by("eventDate", "id");
     private final EventRepository eventRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final RequestRepository requestRepository;
     private final MarkRepository markRepository;
+    private final AreaService areaService;
+    private final EventCache eventCache;
+    private final EventEnrichment eventEnrichment;
+    private final TrendingEngine trendingEngine;
+    private final ModerationStream moderationStream;
+    private final ResourceVersions resourceVersions;
     private final StatsClient statsClient;
     @Value("${application.name}")
     private String appName;
@@ -54,46 +75,72 @@ public class EventServiceImpl implements EventService {
                                            int size) {
 
         Specification<Event> specification = getEventQuery(users, states, categories, rangeStart, rangeEnd);
-        Map<Long, Long> confirmedRequests = requestRepository.findAllEventConfirmedRequests().stream()
-                .collect(Collectors.toMap(EventConfirmedRequests::getEventId, EventConfirmedRequests::getCount));
-        List<Event> events = eventRepository.findAll(specification, PageRequest.of(from / size, size))
-                .getContent().stream()
-                .peek(event -> event.setConfirmedRequests(confirmedRequests.getOrDefault(event.getId(), 0L)))
-                .collect(Collectors.toList());
-        log.info("Возвращен список событий: {}", events);
+        List<Event> events = eventRepository.findAll(specification, PageRequest.of(from / size, size, ADMIN_SORT))
+                .getContent();
+        log.info("Возвращен список событий: количество={}", events.size());
+        log.debug("Возвращен список событий: {}", events);
 
         return events.stream().map(EventMapper::toFullDto).collect(Collectors.toList());
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public EventFullDto updateEventByAdmin(long eventId, UpdateEventAdminRequest updateRequest) {
         Event event = getEvent(eventId);
+        Versions.check("Event", eventId, updateRequest.getVersion(), event.getVersion());
+        eventCache.evictEvent(eventId);
+        resourceVersions.bump(Resource.EVENTS);
         updateEvent(event, updateRequest);
-        StateActionAdmin stateAction = updateRequest.getStateAction();
-        if (stateAction != null) {
-            if (stateAction == StateActionAdmin.PUBLISH_EVENT) {
-                if (event.getState() != State.PENDING) {
-                    throw new IllegalOperationException(
-                            "Cannot publish the event because it's not in the right state: " + event.getState()
-                    );
-                }
-                event.setState(State.PUBLISHED);
-                event.setPublishedOn(LocalDateTime.now());
-            } else if (stateAction == StateActionAdmin.REJECT_EVENT) {
-                if (event.getState() == State.PUBLISHED) {
-                    throw new IllegalOperationException(
-                            "Cannot reject the event because it's not in the right state: " + event.getState()
-                    );
-                }
-                event.setState(State.CANCELED);
-            }
-        }
-        log.info("Обновлено событие: {}", event);
+        applyStateAction(event, updateRequest.getStateAction());
+        eventRepository.flush();
+        log.info("Обновлено событие с id={}", event.getId());
+        log.debug("Обновлено событие: {}", event);
 
         return EventMapper.toFullDto(event);
     }
 
+    @Override
+    public ModerationQueueDto getModerationQueue(String cursor, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        List<Event> events;
+        if (cursor == null) {
+            events = eventRepository.findQueue(State.PENDING, page);
+        } else {
+            ModerationCursor after = ModerationCursor.parse(cursor);
+            events = eventRepository.findQueueAfter(State.PENDING, after.getCreatedOn(), after.getId(), page);
+        }
+        List<EventFullDto> eventDtos = events.stream().map(EventMapper::toFullDto).collect(Collectors.toList());
+        String nextCursor = eventDtos.isEmpty()
+                ? cursor
+                : ModerationCursor.of(eventDtos.get(eventDtos.size() - 1)).toString();
+        log.info("Возвращена очередь модерации: количество={}", eventDtos.size());
+        log.debug("Возвращена очередь модерации: {}", eventDtos);
+
+        return new ModerationQueueDto(eventDtos, nextCursor);
+    }
+
+    @Override
+    @Transactional
+    @RetryOnConflict
+    public List<EventFullDto> moderateEvents(ModerationRequest moderationRequest) {
+        Set<Long> eventIds = moderationRequest.getEventIds();
+        List<Event> events = eventRepository.findAllByIdIn(eventIds);
+        if (events.size() != eventIds.size()) {
+            throw new NotFoundException("Some of events with ids=" + eventIds + " were not found");
+        }
+        resourceVersions.bump(Resource.EVENTS);
+        for (Event event : events) {
+            eventCache.evictEvent(event.getId());
+            applyStateAction(event, moderationRequest.getStateAction());
+        }
+        eventRepository.flush();
+        log.info("Модерация событий: действие={}, количество={}", moderationRequest.getStateAction(), events.size());
+        log.debug("Модерация событий: {}", events);
+
+        return events.stream().map(EventMapper::toFullDto).collect(Collectors.toList());
+    }
+
     @Override
     public List<EventShortDto> getPublishedEvents(String text,
                                                  Set<Long> categories,
@@ -102,94 +149,169 @@ public class EventServiceImpl implements EventService {
                                                  LocalDateTime rangeEnd,
                                                  boolean onlyAvailable,
                                                  String sort,
+                                                 Double lat,
+                                                 Double lon,
+                                                 double radius,
+                                                 Long area,
                                                  int from,
                                                  int size,
                                                  HttpServletRequest request) {
 
+        if ((lat == null) != (lon == null)) {
+            throw new IllegalArgumentException("Both lat and lon must be specified for location search");
+        }
         Specification<Event> specification = getPublishedEventQuery(
-                text, categories, paid, rangeStart, rangeEnd, onlyAvailable
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable, area
         );
-        Map<Long, Long> confirmedRequests = requestRepository.findAllEventConfirmedRequests().stream()
-                .collect(Collectors.toMap(EventConfirmedRequests::getEventId, EventConfirmedRequests::getCount));
-        List<Event> events = eventRepository.findAll(specification).stream()
-                .peek(event -> event.setConfirmedRequests(confirmedRequests.getOrDefault(event.getId(), 0L)))
-                .collect(Collectors.toList());
-        statsClient.addHit(EndpointHitDto.builder()
-                .app(appName)
-                .uri(request.getRequestURI())
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build());
-        Set<Long> ids = new HashSet<>();
-        Set<String> uris = new HashSet<>();
-        LocalDateTime earliestPublicationDate = LocalDateTime.now();
-        for (Event event : events) {
-            ids.add(event.getId());
-            uris.add("/events/" + event.getId());
-            if (event.getPublishedOn().isBefore(earliestPublicationDate)) {
-                earliestPublicationDate = event.getPublishedOn();
-            }
-        }
-        Map<Long, Double> ratings = markRepository.getAllEventsRating(ids).stream()
-                .collect(Collectors.toMap(EventRating::getEventId, EventRating::getRating));
-        Map<Long, Long> views = getViews(earliestPublicationDate, LocalDateTime.now(), uris);
-        for (Event event : events) {
-            event.setRating(ratings.getOrDefault(event.getId(), 0.0));
-            event.setViews(views.getOrDefault(event.getId(), 0L));
+        List<EventShortView> events;
+        if (lat != null) {
+            events = eventRepository.findShortViews(specification.and(GeoKey.near(lat, lon, radius))).stream()
+                    .filter(event -> GeoKey.isWithin(event, lat, lon, radius))
+                    .collect(Collectors.toList());
+        } else {
+            events = eventRepository.findShortViews(specification);
         }
+        enrich(events, request);
         if (sort != null) {
             switch (sort) {
                 case "EVENT_DATE":
-                    events.sort(Comparator.comparing(Event::getEventDate));
+                    events.sort(Comparator.comparing(EventShortView::getEventDate));
                     break;
                 case "VIEWS":
-                    events.sort(Comparator.comparing(Event::getViews).reversed());
+                    events.sort(Comparator.comparing(EventShortView::getViews).reversed());
                     break;
                 case "RATING":
-                    events.sort(Comparator.comparing(Event::getRating).reversed());
+                    events.sort(Comparator.comparing(EventShortView::getRating).reversed());
+                    break;
+                case "TRENDING":
+                    Map<Long, Double> scores = events.stream()
+                            .collect(Collectors.toMap(EventShortView::getId,
+                                    event -> trendingEngine.getScore(event.getId())));
+                    events.sort(Comparator.comparing((EventShortView event) -> scores.get(event.getId())).reversed());
                     break;
                 default:
-                    throw new IllegalArgumentException("Sort must be EVENT_DATE, VIEWS or RATING");
+                    throw new IllegalArgumentException("Sort must be EVENT_DATE, VIEWS, RATING or TRENDING");
             }
         }
         int to = Math.min(from + size, events.size());
-        List<Event> eventsPage = events.subList(from, to);
-        log.info("Возвращен список событий: {}", eventsPage);
+        List<EventShortView> eventsPage = events.subList(from, to);
+        log.info("Возвращен список событий: количество={}", eventsPage.size());
+        log.debug("Возвращен список событий: {}", eventsPage);
 
         return eventsPage.stream().map(EventMapper::toShortDto).collect(Collectors.toList());
     }
 
     @Override
-    public EventFullDto getPublishedEventById(long id, HttpServletRequest request) {
-        Event event = getEvent(id);
-        if (event.getState() != State.PUBLISHED) {
-            throw new NotFoundException("Event with id=" + id + " was not found");
+    public EventFacetsDto getPublishedEventFacets(String text,
+                                                  Set<Long> categories,
+                                                  Boolean paid,
+                                                  LocalDateTime rangeStart,
+                                                  LocalDateTime rangeEnd,
+                                                  boolean onlyAvailable,
+                                                  Double lat,
+                                                  Double lon,
+                                                  double radius,
+                                                  Long area) {
+        if ((lat == null) != (lon == null)) {
+            throw new IllegalArgumentException("Both lat and lon must be specified for location search");
         }
+        Specification<Event> specification = getPublishedEventQuery(
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable, area
+        );
+        List<EventFacetCount> counts = eventRepository.countFacets(
+                specification, lat, lon, radius, LocalDateTime.now()
+        );
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        long total = 0;
+        long paidCount = 0;
+        long past = 0;
+        long nextWeek = 0;
+        long nextMonth = 0;
+        for (EventFacetCount count : counts) {
+            categoryCounts.merge(count.getCategoryId(), count.getTotal(), Long::sum);
+            total += count.getTotal();
+            if (count.getPaid()) {
+                paidCount += count.getTotal();
+            }
+            past += count.getPast();
+            nextWeek += count.getNextWeek();
+            nextMonth += count.getNextMonth();
+        }
+        Map<String, Long> dates = new LinkedHashMap<>();
+        dates.put("PAST", past);
+        dates.put("WEEK", nextWeek - past);
+        dates.put("MONTH", nextMonth - nextWeek);
+        dates.put("LATER", total - nextMonth);
+        EventFacetsDto facets = EventFacetsDto.builder()
+                .total(total)
+                .categories(categoryCounts)
+                .paid(paidCount)
+                .free(total - paidCount)
+                .dates(dates)
+                .build();
+        log.info("Возвращены фасеты событий: всего={}", total);
+        log.debug("Возвращены фасеты событий: {}", facets);
+
+        return facets;
+    }
+
+    @Override
+    public EventFullDto getPublishedEventById(long id, HttpServletRequest request) {
+        EventFullDto event = eventCache.getEvent(id, this::getPublishedEvent);
         String uri = request.getRequestURI();
-        statsClient.addHit(EndpointHitDto.builder()
-                .app(appName)
-                .uri(uri)
-                .ip(request.getRemoteAddr())
-                .timestamp(LocalDateTime.now())
-                .build());
-        event.setRating(markRepository.getEventRating(id).orElse(0.0));
-        Map<Long, Long> views = getViews(event.getPublishedOn(), LocalDateTime.now(), Collections.singleton(uri));
-        event.setViews(views.getOrDefault(event.getId(), 0L));
-        log.info("Возвращено событие: {}", event);
+        addHit(request);
+        trendingEngine.recordView(id, event.getCategory().getId());
+        EventFullDto result = event.toBuilder()
+                .confirmedRequests(eventCache.getConfirmedRequests(id,
+                        () -> eventRepository.findConfirmedRequestsById(id).orElse(0L)))
+                .rating(eventCache.getRating(id, () -> markRepository.getEventRating(id).orElse(0.0)))
+                .views(eventCache.getViews(id, () -> getViews(event.getPublishedOn(), LocalDateTime.now(),
+                        Collections.singleton(uri)).getOrDefault(id, 0L)))
+                .build();
+        log.info("Возвращено событие с id={}", id);
+        log.debug("Возвращено событие: {}", result);
 
-        return EventMapper.toFullDto(event);
+        return result;
+    }
+
+    @Override
+    public List<EventShortDto> getTrendingEvents(Long category, int size, HttpServletRequest request) {
+        List<Long> ids = trendingEngine.getTopEvents(category, size);
+        List<EventShortView> views = ids.isEmpty()
+                ? Collections.emptyList()
+                : eventRepository.findShortViews(ids, State.PUBLISHED);
+        Map<Long, EventShortView> eventsById = views.stream()
+                .collect(Collectors.toMap(EventShortView::getId, Function.identity()));
+        List<EventShortView> events = ids.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        enrich(events, request);
+        log.info("Возвращен список трендовых событий: количество={}", events.size());
+        log.debug("Возвращен список трендовых событий: {}", events);
+
+        return events.stream().map(EventMapper::toShortDto).collect(Collectors.toList());
+    }
+
+    @Override
+    public void addEventHit(long id, HttpServletRequest request) {
+        EventFullDto event = eventCache.getEvent(id, this::getPublishedEvent);
+        addHit(request);
+        trendingEngine.recordView(id, event.getCategory().getId());
+    }
+
+    @Override
+    public void addHit(HttpServletRequest request) {
+        statsClient.addHit(toHit(request));
     }
 
     @Override
     public List<EventShortDto> getUserEvents(long userId, int from, int size) {
         getUser(userId);
-        Map<Long, Long> confirmedRequests = requestRepository.findAllEventConfirmedRequests().stream()
-                .collect(Collectors.toMap(EventConfirmedRequests::getEventId, EventConfirmedRequests::getCount));
-        List<Event> events = eventRepository.findAllByInitiatorId(userId, PageRequest.of(from / size, size))
-                .getContent().stream()
-                .peek(event -> event.setConfirmedRequests(confirmedRequests.getOrDefault(event.getId(), 0L)))
-                .collect(Collectors.toList());
-        log.info("Возвращен список событий: {}", events);
+        List<EventShortView> events = eventRepository.findInitiatorShortViews(userId,
+                PageRequest.of(from / size, size));
+        log.info("Возвращен список событий: количество={}", events.size());
+        log.debug("Возвращен список событий: {}", events);
 
         return events.stream().map(EventMapper::toShortDto).collect(Collectors.toList());
     }
@@ -201,9 +323,13 @@ public class EventServiceImpl implements EventService {
         event.setCategory(getCategory(newEventDto.getCategory()));
         event.setInitiator(getUser(userId));
         Event newEvent = eventRepository.save(event);
-        log.info("Добавлено событие: {}", newEvent);
+        areaService.updateEventAreas(newEvent);
+        EventFullDto eventDto = EventMapper.toFullDto(newEvent);
+        moderationStream.publishPending(eventDto);
+        log.info("Добавлено событие с id={}", newEvent.getId());
+        log.debug("Добавлено событие: {}", newEvent);
 
-        return EventMapper.toFullDto(newEvent);
+        return eventDto;
     }
 
     @Override
@@ -211,18 +337,23 @@ public class EventServiceImpl implements EventService {
         getUser(userId);
         Event event = getEvent(eventId);
         checkEventInitiator(userId, event);
-        log.info("Возвращено событие: {}", event);
+        log.info("Возвращено событие с id={}", event.getId());
+        log.debug("Возвращено событие: {}", event);
 
         return EventMapper.toFullDto(event);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public EventFullDto updateUserEvent(long userId, long eventId, UpdateEventUserRequest updateRequest) {
         getUser(userId);
         Event event = getEvent(eventId);
         checkEventInitiator(userId, event);
         checkEventNotPublished(event);
+        Versions.check("Event", eventId, updateRequest.getVersion(), event.getVersion());
+        eventCache.evictEvent(eventId);
+        resourceVersions.bump(Resource.EVENTS);
         updateEvent(event, updateRequest);
         StateActionUser stateAction = updateRequest.getStateAction();
         if (stateAction != null) {
@@ -232,9 +363,15 @@ public class EventServiceImpl implements EventService {
                 event.setState(State.CANCELED);
             }
         }
-        log.info("Обновлено событие: {}", event);
+        eventRepository.flush();
+        EventFullDto eventDto = EventMapper.toFullDto(event);
+        if (stateAction == StateActionUser.SEND_TO_REVIEW) {
+            moderationStream.publishPending(eventDto);
+        }
+        log.info("Обновлено событие с id={}", event.getId());
+        log.debug("Обновлено событие: {}", event);
 
-        return EventMapper.toFullDto(event);
+        return eventDto;
     }
 
     @Override
@@ -243,7 +380,8 @@ public class EventServiceImpl implements EventService {
         Event event = getEvent(eventId);
         checkEventInitiator(userId, event);
         List<Request> requests = requestRepository.findAllByEventId(eventId);
-        log.info("Возвращен список запросов: {}", requests);
+        log.info("Возвращен список запросов: количество={}", requests.size());
+        log.debug("Возвращен список запросов: {}", requests);
 
         return requests.stream().map(RequestMapper::toDto).collect(Collectors.toList());
     }
@@ -255,26 +393,53 @@ public class EventServiceImpl implements EventService {
                                                                         EventRequestStatusUpdateRequest updateRequest) {
         getUser(userId);
         Event event = getEvent(eventId);
-        List<Request> requests = requestRepository.findAllById(updateRequest.getRequestIds());
-        EventRequestStatusUpdateResult result = new EventRequestStatusUpdateResult();
-        for (Request request : requests) {
-            if (request.getStatus() != Status.PENDING) {
-                throw new IllegalOperationException("Request must have status PENDING");
+        checkEventInitiator(userId, event);
+        Set<Long> requestIds = updateRequest.getRequestIds();
+        if (requestIds == null || (updateRequest.getStatus() != Status.CONFIRMED
+                && updateRequest.getStatus() != Status.REJECTED)) {
+            throw new IllegalArgumentException("Request ids and status CONFIRMED or REJECTED must be specified");
+        }
+        List<RequestView> requests = requestRepository.findAllViewsByEventIdAndIdIn(eventId, requestIds);
+        if (requests.size() != requestIds.size()) {
+            throw new NotFoundException("Some of requests with ids=" + requestIds + " were not found");
+        }
+        if (requests.stream().anyMatch(request -> request.getStatus() != Status.PENDING)) {
+            throw new IllegalOperationException("Request must have status PENDING");
+        }
+        int toConfirm = 0;
+        if (updateRequest.getStatus() == Status.CONFIRMED) {
+            long available = event.getParticipantLimit() - event.getConfirmedRequests();
+            if (event.getParticipantLimit() > 0 && available <= 0) {
+                throw new IllegalOperationException("The participant limit has been reached");
             }
-            if (updateRequest.getStatus() == Status.REJECTED) {
-                request.setStatus(Status.REJECTED);
-                result.getRejectedRequests().add(RequestMapper.toDto(request));
-            } else {
-                if (event.getParticipantLimit() == 0 || event.getConfirmedRequests() < event.getParticipantLimit()) {
-                    request.setStatus(Status.CONFIRMED);
-                    result.getConfirmedRequests().add(RequestMapper.toDto(request));
-                    event.setConfirmedRequests(event.getConfirmedRequests() + 1);
-                } else {
-                    throw new IllegalOperationException("The participant limit has been reached");
-                }
+            toConfirm = event.getParticipantLimit() == 0
+                    ? requests.size()
+                    : (int) Math.min(requests.size(), available);
+        }
+        List<RequestView> confirmed = requests.subList(0, toConfirm);
+        List<RequestView> rejected = requests.subList(toConfirm, requests.size());
+        updateStatuses(confirmed, Status.CONFIRMED);
+        updateStatuses(rejected, Status.REJECTED);
+        if (toConfirm > 0) {
+            if (event.getParticipantLimit() > 0
+                    && event.getConfirmedRequests() + toConfirm == event.getParticipantLimit()) {
+                requestRepository.updateEventStatuses(eventId, Status.PENDING, Status.REJECTED);
             }
+            if (eventRepository.reserveSlots(eventId, toConfirm) == 0) {
+                throw new IllegalOperationException("The participant limit has been reached");
+            }
+            event.setConfirmedRequests(event.getConfirmedRequests() + toConfirm);
+            eventCache.evictConfirmedRequests(eventId);
+            resourceVersions.bump(Resource.EVENTS);
         }
-        log.info("Возвращен результат обновления статусов запросов: {}", result);
+        EventRequestStatusUpdateResult result = new EventRequestStatusUpdateResult();
+        confirmed.forEach(request -> result.getConfirmedRequests()
+                .add(RequestMapper.toDto(request, Status.CONFIRMED)));
+        rejected.forEach(request -> result.getRejectedRequests()
+                .add(RequestMapper.toDto(request, Status.REJECTED)));
+        log.info("Возвращен результат обновления статусов запросов: подтверждено={}, отклонено={}",
+                result.getConfirmedRequests().size(), result.getRejectedRequests().size());
+        log.debug("Возвращен результат обновления статусов запросов: {}", result);
 
         return result;
     }
@@ -282,16 +447,24 @@ public class EventServiceImpl implements EventService {
     @Override
     public List<Initiator> getTopEventInitiators(int from, int size) {
         List<Initiator> initiators = userRepository.findTopInitiators(PageRequest.of(from / size, size)).getContent();
-        log.info("Возвращен список инициаторов событий: {}", initiators);
+        log.info("Возвращен список инициаторов событий: количество={}", initiators.size());
+        log.debug("Возвращен список инициаторов событий: {}", initiators);
         return initiators;
     }
 
+    private void updateStatuses(List<RequestView> requests, Status status) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = requests.stream().map(RequestView::getId).collect(Collectors.toSet());
+        if (requestRepository.updateStatuses(ids, Status.PENDING, status) != ids.size()) {
+            throw new IllegalOperationException("Request must have status PENDING");
+        }
+    }
+
     private Event getEvent(long eventId) {
-        Event event = eventRepository.findById(eventId)
+        return eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("Event with id=" + eventId + " was not found"));
-        event.setConfirmedRequests(requestRepository.findEventConfirmedRequests(eventId));
-
-        return event;
     }
 
     private User getUser(long userId) {
@@ -310,6 +483,25 @@ public class EventServiceImpl implements EventService {
         }
     }
 
+    private void applyStateAction(Event event, StateActionAdmin stateAction) {
+        if (stateAction == StateActionAdmin.PUBLISH_EVENT) {
+            if (event.getState() != State.PENDING) {
+                throw new IllegalOperationException(
+                        "Cannot publish the event because it's not in the right state: " + event.getState()
+                );
+            }
+            event.setState(State.PUBLISHED);
+            event.setPublishedOn(LocalDateTime.now());
+        } else if (stateAction == StateActionAdmin.REJECT_EVENT) {
+            if (event.getState() == State.PUBLISHED) {
+                throw new IllegalOperationException(
+                        "Cannot reject the event because it's not in the right state: " + event.getState()
+                );
+            }
+            event.setState(State.CANCELED);
+        }
+    }
+
     private void checkEventNotPublished(Event event) {
         if (event.getState() == State.PUBLISHED) {
             throw new IllegalOperationException("Only pending or canceled events can be changed");
@@ -348,6 +540,24 @@ public class EventServiceImpl implements EventService {
         };
     }
 
+    private Specification<Event> getPublishedEventQuery(String text,
+                                                        Set<Long> categories,
+                                                        Boolean paid,
+                                                        LocalDateTime rangeStart,
+                                                        LocalDateTime rangeEnd,
+                                                        boolean onlyAvailable,
+                                                        Long area) {
+        Specification<Event> specification = getPublishedEventQuery(
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable
+        );
+        if (area == null) {
+            return specification;
+        }
+        areaService.getAreaById(area);
+
+        return specification.and(getAreaQuery(area));
+    }
+
     private Specification<Event> getPublishedEventQuery(String text,
                                                         Set<Long> categories,
                                                         Boolean paid,
@@ -384,7 +594,7 @@ public class EventServiceImpl implements EventService {
             }
             if (onlyAvailable) {
                 predicates.add(builder.or(
-                        builder.equal(event.get("confirmedRequests"), 0),
+                        builder.equal(event.get("participantLimit"), 0),
                         builder.lessThan(event.get("confirmedRequests"), event.get("participantLimit"))
                 ));
             }
@@ -393,6 +603,63 @@ public class EventServiceImpl implements EventService {
         };
     }
 
+    private Specification<Event> getAreaQuery(long areaId) {
+        return (event, query, builder) -> {
+            Subquery<Long> areaEvents = query.subquery(Long.class);
+            Root<AreaEvent> areaEvent = areaEvents.from(AreaEvent.class);
+            areaEvents.select(areaEvent.get("eventId")).where(builder.equal(areaEvent.get("areaId"), areaId));
+
+            return event.get("id").in(areaEvents);
+        };
+    }
+
+    private EventFullDto getPublishedEvent(long id) {
+        Event event = getEvent(id);
+        if (event.getState() != State.PUBLISHED) {
+            throw new NotFoundException("Event with id=" + id + " was not found");
+        }
+
+        return EventMapper.toFullDto(event);
+    }
+
+    private void enrich(List<EventShortView> events, HttpServletRequest request) {
+        EndpointHitDto endpointHit = toHit(request);
+        CompletableFuture<Void> hit = eventEnrichment.addHit(() -> statsClient.addHit(endpointHit));
+        Set<Long> ids = new HashSet<>();
+        Set<String> uris = new HashSet<>();
+        LocalDateTime earliestPublicationDate = LocalDateTime.now();
+        for (EventShortView event : events) {
+            ids.add(event.getId());
+            uris.add("/events/" + event.getId());
+            if (event.getPublishedOn().isBefore(earliestPublicationDate)) {
+                earliestPublicationDate = event.getPublishedOn();
+            }
+        }
+        LocalDateTime viewsStart = earliestPublicationDate;
+        CompletableFuture<Map<Long, Double>> ratingsLookup = eventEnrichment.getRatings(() -> ids.isEmpty()
+                ? Collections.emptyMap()
+                : markRepository.getAllEventsRating(ids).stream()
+                        .collect(Collectors.toMap(EventRating::getEventId, EventRating::getRating)));
+        CompletableFuture<Map<Long, Long>> viewsLookup = eventEnrichment.getViews(() ->
+                getViews(viewsStart, LocalDateTime.now(), uris));
+        CompletableFuture.allOf(hit, ratingsLookup, viewsLookup).join();
+        Map<Long, Double> ratings = ratingsLookup.join();
+        Map<Long, Long> views = viewsLookup.join();
+        for (EventShortView event : events) {
+            event.setRating(ratings.getOrDefault(event.getId(), 0.0));
+            event.setViews(views.getOrDefault(event.getId(), 0L));
+        }
+    }
+
+    private EndpointHitDto toHit(HttpServletRequest request) {
+        return EndpointHitDto.builder()
+                .app(appName)
+                .uri(request.getRequestURI())
+                .ip(request.getRemoteAddr())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     private Map<Long, Long> getViews(LocalDateTime start, LocalDateTime end, Set<String> uris) {
         List<ViewStats> stats = statsClient.getStats(start, end, uris, true).getBody();
         Map<Long, Long> views = new HashMap<>();
@@ -421,6 +688,7 @@ public class EventServiceImpl implements EventService {
         }
         if (category != null) {
             event.setCategory(getCategory(category));
+            trendingEngine.moveEvent(event.getId(), category);
         }
         if (description != null && !description.isBlank()) {
             event.setDescription(description);
@@ -431,9 +699,10 @@ public class EventServiceImpl implements EventService {
             }
             event.setEventDate(eventDate);
         }
-        if (location != null) {
+        if (location != null && (location.getLat() != event.getLat() || location.getLon() != event.getLon())) {
             event.setLat(location.getLat());
             event.setLon(location.getLon());
+            areaService.updateEventAreas(event);
         }
         if (paid != null) {
             event.setPaid(paid);
@@ -0,0 +1,31 @@
+package ru.practicum.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class EventShortView {
+    private final Long id;
+    private final String annotation;
+    private final Long categoryId;
+    private final String categoryName;
+    private final Long categoryVersion;
+    private final long confirmedRequests;
+    private final LocalDateTime eventDate;
+    private final Long initiatorId;
+    private final String initiatorName;
+    private final Boolean paid;
+    private final String title;
+    private final LocalDateTime publishedOn;
+    private final Double lat;
+    private final Double lon;
+    private double rating;
+    private long views;
+}
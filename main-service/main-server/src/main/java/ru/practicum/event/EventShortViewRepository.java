@@ -0,0 +1,9 @@
+package ru.practicum.event;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface EventShortViewRepository {
+    List<EventShortView> findShortViews(Specification<Event> specification);
+}
@@ -0,0 +1,42 @@
+package ru.practicum.event;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.category.Category;
+import ru.practicum.user.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.util.List;
+
+public class EventShortViewRepositoryImpl implements EventShortViewRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventShortView> findShortViews(Specification<Event> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventShortView> query = builder.createQuery(EventShortView.class);
+        Root<Event> event = query.from(Event.class);
+        Join<Event, Category> category = event.join("category");
+        Join<Event, User> initiator = event.join("initiator");
+        query.select(builder.construct(EventShortView.class,
+                        event.get("id"),
+                        event.get("annotation"),
+                        category.get("id"),
+                        category.get("name"),
+                        category.get("version"),
+                        event.get("confirmedRequests"),
+                        event.get("eventDate"),
+                        initiator.get("id"),
+                        initiator.get("name"),
+                        event.get("paid"),
+                        event.get("title"),
+                        event.get("publishedOn"),
+                        event.get("lat"),
+                        event.get("lon")))
+                .where(specification.toPredicate(event, query, builder));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
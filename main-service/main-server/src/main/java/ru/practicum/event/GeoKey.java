@@ -0,0 +1,150 @@
+package ru.practicum.event;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+
+@UtilityClass
+public class GeoKey {
+    private static final int BITS = 26;
+    private static final int MAX_CELLS = 16;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    public long encode(double lat, double lon) {
+        return interleave(latIndex(lat, BITS), lonIndex(lon, BITS), BITS);
+    }
+
+    public List<long[]> cover(double lat, double lon, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, lat - latDelta);
+        double maxLat = Math.min(90, lat + latDelta);
+        double cos = Math.min(Math.cos(Math.toRadians(minLat)), Math.cos(Math.toRadians(maxLat)));
+        double lonDelta = cos <= 0 ? 360 : radiusKm / (KM_PER_DEGREE * cos);
+        double fromLon = lonDelta >= 180 ? -180 : lon - lonDelta;
+        double toLon = lonDelta >= 180 ? 180 - 1e-9 : lon + lonDelta;
+        int level = BITS;
+        long latCells;
+        long lonCells;
+        do {
+            long cells = 1L << level;
+            latCells = latIndex(maxLat, level) - latIndex(minLat, level) + 1;
+            lonCells = Math.min(cells, unwrappedLonIndex(toLon, level) - unwrappedLonIndex(fromLon, level) + 1);
+        } while (latCells * lonCells > MAX_CELLS && --level > 0);
+
+        long firstLat = latIndex(minLat, level);
+        long firstLon = Math.floorMod(unwrappedLonIndex(fromLon, level), 1L << level);
+        int shift = 2 * (BITS - level);
+        List<long[]> ranges = new ArrayList<>();
+        for (long i = 0; i < latCells; i++) {
+            for (long j = 0; j < lonCells; j++) {
+                long prefix = interleave(firstLat + i, (firstLon + j) & ((1L << level) - 1), level);
+                ranges.add(new long[]{prefix << shift, ((prefix + 1) << shift) - 1});
+            }
+        }
+
+        return merge(ranges);
+    }
+
+    public Specification<Event> near(double lat, double lon, double radiusKm) {
+        return (event, query, builder) -> builder.or(cover(lat, lon, radiusKm).stream()
+                .map(range -> builder.between(event.get("geoKey"), range[0], range[1]))
+                .toArray(Predicate[]::new));
+    }
+
+    public Specification<Event> within(double lat, double lon, double radiusKm) {
+        double halfAngle = radiusKm / EARTH_RADIUS_KM / 2;
+        if (halfAngle >= Math.PI / 2) {
+            return (event, query, builder) -> builder.conjunction();
+        }
+        double latRadians = Math.toRadians(lat);
+        double lonRadians = Math.toRadians(lon);
+        double limit = Math.sin(halfAngle) * Math.sin(halfAngle);
+        return (event, query, builder) -> {
+            Expression<Double> eventLat = builder.prod(event.<Double>get("lat"), Math.PI / 180);
+            Expression<Double> eventLon = builder.prod(event.<Double>get("lon"), Math.PI / 180);
+            Expression<Double> latSine = halfSine(builder, builder.diff(eventLat, latRadians));
+            Expression<Double> lonSine = halfSine(builder, builder.diff(eventLon, lonRadians));
+            Expression<Double> cosines = builder.prod(
+                    builder.function("cos", Double.class, eventLat), Math.cos(latRadians));
+            return builder.le(builder.sum(builder.prod(latSine, latSine),
+                    builder.prod(cosines, builder.prod(lonSine, lonSine))), limit);
+        };
+    }
+
+    public boolean isWithin(Event event, double lat, double lon, double radiusKm) {
+        return distanceKm(lat, lon, event.getLat(), event.getLon()) <= radiusKm;
+    }
+
+    public boolean isWithin(EventShortView event, double lat, double lon, double radiusKm) {
+        return distanceKm(lat, lon, event.getLat(), event.getLon()) <= radiusKm;
+    }
+
+    public boolean isWithin(EventLocation event, double lat, double lon, double radiusKm) {
+        return distanceKm(lat, lon, event.getLat(), event.getLon()) <= radiusKm;
+    }
+
+    public double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private Expression<Double> halfSine(CriteriaBuilder builder, Expression<Double> angle) {
+        return builder.function("sin", Double.class, builder.prod(angle, 0.5));
+    }
+
+    private long latIndex(double lat, int level) {
+        return index((lat + 90) / 180, level);
+    }
+
+    private long lonIndex(double lon, int level) {
+        double normalized = ((lon + 180) % 360 + 360) % 360;
+
+        return index(normalized / 360, level);
+    }
+
+    private long unwrappedLonIndex(double lon, int level) {
+        return (long) Math.floor((lon + 180) / 360 * (1L << level));
+    }
+
+    private long index(double fraction, int level) {
+        long cells = 1L << level;
+
+        return Math.min(cells - 1, Math.max(0, (long) (fraction * cells)));
+    }
+
+    private long interleave(long latIndex, long lonIndex, int bits) {
+        long key = 0;
+        for (int bit = bits - 1; bit >= 0; bit--) {
+            key = (key << 1) | ((latIndex >> bit) & 1);
+            key = (key << 1) | ((lonIndex >> bit) & 1);
+        }
+
+        return key;
+    }
+
+    private List<long[]> merge(List<long[]> ranges) {
+        ranges.sort((a, b) -> Long.compare(a[0], b[0]));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+
+        return merged;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "event-cache.shared", havingValue = "local")
+public class LocalSharedEventCache implements SharedEventCache {
+    private final Map<Long, EventFullDto> events = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<EventFullDto> get(long eventId) {
+        return Optional.ofNullable(events.get(eventId));
+    }
+
+    @Override
+    public void put(long eventId, EventFullDto event) {
+        events.put(eventId, event);
+    }
+
+    @Override
+    public void evict(long eventId) {
+        events.remove(eventId);
+    }
+
+    @Override
+    public void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor
+public class ModerationCursor {
+    private final LocalDateTime createdOn;
+    private final long id;
+
+    public static ModerationCursor of(EventFullDto event) {
+        return new ModerationCursor(event.getCreatedOn(), event.getId());
+    }
+
+    public static ModerationCursor parse(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf('_');
+            return new ModerationCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Incorrect moderation cursor: " + cursor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdOn + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,142 @@
+package ru.practicum.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class ModerationStream {
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    @Value("${moderation.stream-timeout-ms}")
+    private long timeoutMs;
+    @Value("${moderation.queue-capacity}")
+    private int queueCapacity;
+    @Value("${moderation.send-timeout-ms}")
+    private long sendTimeoutMs;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newCachedThreadPool(new CustomizableThreadFactory("moderation-stream-"));
+    }
+
+    public SseEmitter subscribe(List<EventFullDto> backlog) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        backlog.forEach(event -> offer(subscriber, pending(event)));
+        log.info("Подключен поток модерации, подписчиков: {}", subscribers.size());
+
+        return emitter;
+    }
+
+    public void publishPending(EventFullDto event) {
+        Runnable publish = () -> subscribers.forEach(subscriber -> offer(subscriber, pending(event)));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${moderation.heartbeat-ms}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        subscribers.forEach(subscriber -> {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince > 0 && now - sendingSince > sendTimeoutMs) {
+                drop(subscriber, "отправка не завершилась за " + sendTimeoutMs + " мс");
+            } else {
+                offer(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        executor.shutdown();
+    }
+
+    private SseEmitter.SseEventBuilder pending(EventFullDto event) {
+        return SseEmitter.event()
+                .id(ModerationCursor.of(event).toString())
+                .name("pending")
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            drop(subscriber, "очередь из " + queueCapacity + " событий переполнена");
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null && subscribers.contains(subscriber)) {
+                subscriber.sendingSince = System.currentTimeMillis();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException ex) {
+                    subscribers.remove(subscriber);
+                    log.debug("Поток модерации отключен: {}", ex.toString());
+                } finally {
+                    subscriber.sendingSince = 0;
+                }
+            }
+            if (!subscribers.contains(subscriber)) {
+                subscriber.queue.clear();
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            executor.execute(subscriber.emitter::complete);
+            log.warn("Поток модерации отключен: {}", reason);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendingSince;
+    }
+}
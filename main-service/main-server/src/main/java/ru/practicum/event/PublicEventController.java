@@ -6,9 +6,15 @@ import org.hibernate.validator.constraints.Length;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.user.Initiator;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
 import java.time.LocalDateTime;
@@ -22,6 +28,7 @@ import java.util.Set;
 @Validated
 public class PublicEventController {
     private final EventService eventService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
     public List<EventShortDto> getEvents(@RequestParam(required = false) @Length(min = 1, max = 7000) String text,
@@ -35,23 +42,86 @@ public class PublicEventController {
                                         LocalDateTime rangeEnd,
                                         @RequestParam(defaultValue = "false") boolean onlyAvailable,
                                         @RequestParam(required = false) String sort,
+                                        @RequestParam(required = false)
+                                        @DecimalMin("-90") @DecimalMax("90") Double lat,
+                                        @RequestParam(required = false)
+                                        @DecimalMin("-180") @DecimalMax("180") Double lon,
+                                        @RequestParam(defaultValue = "10") @Positive double radius,
+                                        @RequestParam(required = false) Long area,
                                         @RequestParam(defaultValue = "0") @PositiveOrZero int from,
                                         @RequestParam(defaultValue = "10") @Positive int size,
-                                        HttpServletRequest request) {
+                                        HttpServletRequest request,
+                                        WebRequest webRequest) {
         log.info("Получен запрос GET /events?from={}&size={}\n" +
-                        "Параметры:\ntext={}\ncategories={}\npaid={}\nrangeStart={}\nrangeEnd={}\nonlyAvailable={}\nsort={}",
-                from, size, text, categories, paid, rangeStart, rangeEnd, onlyAvailable, sort);
+                        "Параметры:\ntext={}\ncategories={}\npaid={}\nrangeStart={}\nrangeEnd={}\nonlyAvailable={}\nsort={}" +
+                        "\nlat={}\nlon={}\nradius={}\narea={}",
+                from, size, text, categories, paid, rangeStart, rangeEnd, onlyAvailable, sort, lat, lon, radius, area);
+        if (webRequest.checkNotModified(
+                resourceVersions.getViewsETag(Resource.EVENTS, Resource.CATEGORIES, Resource.MARKS))) {
+            eventService.addHit(request);
+            return null;
+        }
         return eventService.getPublishedEvents(
-                text, categories, paid, rangeStart, rangeEnd, onlyAvailable, sort, from, size, request
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable, sort, lat, lon, radius, area, from, size,
+                request
+        );
+    }
+
+    @GetMapping("/facets")
+    public EventFacetsDto getEventFacets(@RequestParam(required = false) @Length(min = 1, max = 7000) String text,
+                                         @RequestParam(required = false) Set<Long> categories,
+                                         @RequestParam(required = false) Boolean paid,
+                                         @RequestParam(required = false)
+                                         @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+                                         LocalDateTime rangeStart,
+                                         @RequestParam(required = false)
+                                         @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+                                         LocalDateTime rangeEnd,
+                                         @RequestParam(defaultValue = "false") boolean onlyAvailable,
+                                         @RequestParam(required = false)
+                                         @DecimalMin("-90") @DecimalMax("90") Double lat,
+                                         @RequestParam(required = false)
+                                         @DecimalMin("-180") @DecimalMax("180") Double lon,
+                                         @RequestParam(defaultValue = "10") @Positive double radius,
+                                         @RequestParam(required = false) Long area,
+                                         WebRequest webRequest) {
+        log.info("Получен запрос GET /events/facets\n" +
+                        "Параметры:\ntext={}\ncategories={}\npaid={}\nrangeStart={}\nrangeEnd={}\nonlyAvailable={}" +
+                        "\nlat={}\nlon={}\nradius={}\narea={}",
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable, lat, lon, radius, area);
+        if (webRequest.checkNotModified(resourceVersions.getViewsETag(Resource.EVENTS, Resource.CATEGORIES))) {
+            return null;
+        }
+        return eventService.getPublishedEventFacets(
+                text, categories, paid, rangeStart, rangeEnd, onlyAvailable, lat, lon, radius, area
         );
     }
 
     @GetMapping("/{id}")
-    public EventFullDto getEventById(@PathVariable long id, HttpServletRequest request) {
+    public EventFullDto getEventById(@PathVariable long id, HttpServletRequest request, WebRequest webRequest) {
         log.info("Получен запрос GET /events/{}", id);
+        if (webRequest.checkNotModified(
+                resourceVersions.getViewsETag(Resource.EVENTS, Resource.CATEGORIES, Resource.MARKS))) {
+            eventService.addEventHit(id, request);
+            return null;
+        }
         return eventService.getPublishedEventById(id, request);
     }
 
+    @GetMapping("/trending")
+    public List<EventShortDto> getTrendingEvents(@RequestParam(required = false) Long category,
+                                                 @RequestParam(defaultValue = "10") @Positive @Max(100) int size,
+                                                 HttpServletRequest request,
+                                                 WebRequest webRequest) {
+        log.info("Получен запрос GET /events/trending?category={}&size={}", category, size);
+        if (webRequest.checkNotModified(
+                resourceVersions.getViewsETag(Resource.EVENTS, Resource.CATEGORIES, Resource.MARKS))) {
+            eventService.addHit(request);
+            return null;
+        }
+        return eventService.getTrendingEvents(category, size, request);
+    }
+
     @GetMapping("/initiators")
     public List<Initiator> getTopEventInitiators(@RequestParam(defaultValue = "0") @PositiveOrZero int from,
                                                  @RequestParam(defaultValue = "10") @Positive int size) {
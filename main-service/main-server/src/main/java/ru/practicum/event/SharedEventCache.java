@@ -0,0 +1,13 @@
+package ru.practicum.event;
+
+import java.util.Optional;
+
+public interface SharedEventCache {
+    Optional<EventFullDto> get(long eventId);
+
+    void put(long eventId, EventFullDto event);
+
+    void evict(long eventId);
+
+    void clear();
+}
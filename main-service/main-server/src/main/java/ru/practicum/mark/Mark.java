@@ -8,7 +8,12 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "marks", uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "event_id"}))
+@Table(name = "marks",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "event_id"}),
+        indexes = {
+                @Index(name = "ix_marks_event_id", columnList = "event_id"),
+                @Index(name = "ix_marks_marked_on", columnList = "marked_on")
+        })
 @Getter
 @Setter
 @ToString
@@ -17,8 +22,12 @@ import java.time.LocalDateTime;
 @Builder
 public class Mark {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "marks_seq")
+    @SequenceGenerator(name = "marks_seq", sequenceName = "marks_seq", allocationSize = 50)
     private Long id;
+    @Version
+    @Column(nullable = false)
+    private Long version;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @ToString.Exclude
@@ -16,6 +16,7 @@ public class MarkMapper {
                 .mark(mark.getMark())
                 .markedOn(mark.getMarkedOn())
                 .message(mark.getMessage())
+                .version(mark.getVersion())
                 .build();
     }
 
@@ -1,6 +1,5 @@
 package ru.practicum.mark;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,9 +10,18 @@ import java.util.Optional;
 import java.util.Set;
 
 public interface MarkRepository extends JpaRepository<Mark, Long> {
-    Page<Mark> findAllByUserId(Long userId, Pageable page);
+    String DTO = "select new ru.practicum.mark.MarkDto(m.id, m.user.id, m.event.id, m.mark, m.markedOn, m.message, " +
+            "m.version) " +
+            "from Mark as m ";
 
-    Page<Mark> findAllByEventId(Long eventId, Pageable page);
+    @Query(DTO + "where m.user.id = ?1")
+    List<MarkDto> findUserMarks(long userId, Pageable page);
+
+    @Query(DTO + "where m.event.id = ?1")
+    List<MarkDto> findEventMarks(long eventId, Pageable page);
+
+    @Query(DTO + "order by m.markedOn desc")
+    List<MarkDto> findRecentMarks(Pageable page);
 
     @Query("select avg(m.mark) from Mark as m where m.event.id = ?1")
     Optional<Double> getEventRating(Long eventId);
@@ -1,28 +1,34 @@
 package ru.practicum.mark;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.concurrency.RetryOnConflict;
+import ru.practicum.concurrency.Versions;
 import ru.practicum.enums.Status;
 import ru.practicum.event.Event;
+import ru.practicum.event.EventCache;
 import ru.practicum.event.EventRepository;
 import ru.practicum.exception.IllegalOperationException;
 import ru.practicum.exception.NotFoundException;
 import ru.practicum.request.Request;
 import ru.practicum.request.RequestRepository;
+import ru.practicum.trending.TrendingEngine;
 import ru.practicum.user.User;
 import ru.practicum.user.UserRepository;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -31,14 +37,18 @@ public class MarkServiceImpl implements MarkService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final RequestRepository requestRepository;
+    private final EventCache eventCache;
+    private final ResourceVersions resourceVersions;
+    private final TrendingEngine trendingEngine;
 
     @Override
     public List<MarkDto> getUserMarks(long userId, int from, int size) {
         getUser(userId);
-        List<Mark> userMarks = markRepository.findAllByUserId(userId, PageRequest.of(from / size, size)).getContent();
-        log.info("Возвращен список оценок: {}", userMarks);
+        List<MarkDto> userMarks = markRepository.findUserMarks(userId, PageRequest.of(from / size, size));
+        log.info("Возвращен список оценок: количество={}", userMarks.size());
+        log.debug("Возвращен список оценок: {}", userMarks);
 
-        return userMarks.stream().map(MarkMapper::toDto).collect(Collectors.toList());
+        return userMarks;
     }
 
     @Override
@@ -53,19 +63,27 @@ public class MarkServiceImpl implements MarkService {
         checkUserAndEvent(user, event);
         Mark mark = MarkMapper.fromDto(newMarkDto, user, event);
         Mark savedMark = markRepository.save(mark);
-        log.info("Добавлена оценка: {}", savedMark);
+        eventCache.evictRating(eventId);
+        trendingEngine.recordMark(eventId, event.getCategory().getId(), savedMark.getMark(), savedMark.getMarkedOn());
+        resourceVersions.bump(Resource.MARKS);
+        log.info("Добавлена оценка с id={}", savedMark.getId());
+        log.debug("Добавлена оценка: {}", savedMark);
 
         return MarkMapper.toDto(savedMark);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public MarkDto updateMark(long userId, long markId, UpdateMarkRequest request) {
         User user = getUser(userId);
         Mark mark = getMark(markId);
         if (!Objects.equals(mark.getUser(), user)) {
             throw new IllegalOperationException("User can update only his own mark");
         }
+        Versions.check("Mark", markId, request.getVersion(), mark.getVersion());
+        int oldMark = mark.getMark();
+        LocalDateTime oldMarkedOn = mark.getMarkedOn();
         if (request.getMark() != null) {
             mark.setMark(request.getMark());
         }
@@ -73,7 +91,14 @@ public class MarkServiceImpl implements MarkService {
             mark.setMessage(request.getMessage());
         }
         mark.setMarkedOn(LocalDateTime.now());
-        log.info("Обновлена оценка: {}", mark);
+        markRepository.flush();
+        eventCache.evictRating(mark.getEvent().getId());
+        trendingEngine.retractMark(mark.getEvent().getId(), oldMark, oldMarkedOn);
+        trendingEngine.recordMark(mark.getEvent().getId(), mark.getEvent().getCategory().getId(), mark.getMark(),
+                mark.getMarkedOn());
+        resourceVersions.bump(Resource.MARKS);
+        log.info("Обновлена оценка с id={}", mark.getId());
+        log.debug("Обновлена оценка: {}", mark);
 
         return MarkMapper.toDto(mark);
     }
@@ -87,29 +112,29 @@ public class MarkServiceImpl implements MarkService {
             throw new IllegalOperationException("User can delete only his own mark");
         }
         markRepository.delete(mark);
+        eventCache.evictRating(mark.getEvent().getId());
+        trendingEngine.retractMark(mark.getEvent().getId(), mark.getMark(), mark.getMarkedOn());
+        resourceVersions.bump(Resource.MARKS);
         log.info("Удалена оценка с id={}", markId);
     }
 
     @Override
     public List<MarkDto> getRecentMarks(int from, int size) {
-        List<Mark> marks = markRepository.findAll(PageRequest.of(
-                from / size,
-                size,
-                Sort.by(Sort.Direction.DESC, "markedOn")
-        )).getContent();
-        log.info("Возвращен список оценок: {}", marks);
-
-        return marks.stream().map(MarkMapper::toDto).collect(Collectors.toList());
+        List<MarkDto> marks = markRepository.findRecentMarks(PageRequest.of(from / size, size));
+        log.info("Возвращен список оценок: количество={}", marks.size());
+        log.debug("Возвращен список оценок: {}", marks);
+
+        return marks;
     }
 
     @Override
     public List<MarkDto> getAllEventMarks(long eventId, int from, int size) {
         getEvent(eventId);
-        List<Mark> eventMarks = markRepository.findAllByEventId(eventId, PageRequest.of(from / size, size))
-                .getContent();
-        log.info("Возвращен список оценок: {}", eventMarks);
+        List<MarkDto> eventMarks = markRepository.findEventMarks(eventId, PageRequest.of(from / size, size));
+        log.info("Возвращен список оценок: количество={}", eventMarks.size());
+        log.debug("Возвращен список оценок: {}", eventMarks);
 
-        return eventMarks.stream().map(MarkMapper::toDto).collect(Collectors.toList());
+        return eventMarks;
     }
 
     private Event getEvent(long eventId) {
@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
@@ -16,17 +19,26 @@ import java.util.List;
 @Validated
 public class PublicMarkController {
     private final MarkService markService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
     public List<MarkDto> getRecentMarks(@RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                        @RequestParam(defaultValue = "10") @Positive int size) {
+                                        @RequestParam(defaultValue = "10") @Positive int size,
+                                        WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersions.getETag(Resource.MARKS))) {
+            return null;
+        }
         return markService.getRecentMarks(from, size);
     }
 
     @GetMapping("/{eventId}")
     public List<MarkDto> getAllEventMarks(@PathVariable long eventId,
                                           @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                          @RequestParam(defaultValue = "10") @Positive int size) {
+                                          @RequestParam(defaultValue = "10") @Positive int size,
+                                          WebRequest webRequest) {
+        if (webRequest.checkNotModified(resourceVersions.getETag(Resource.MARKS))) {
+            return null;
+        }
         return markService.getAllEventMarks(eventId, from, size);
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package ru.practicum.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Set;
+
+@Configuration
+public class MetricsConfig {
+    private static final Set<String> SORT_MODES = Set.of("EVENT_DATE", "VIEWS", "RATING", "TRENDING");
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry, this::serviceTags);
+    }
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaultTagsProvider = new DefaultRepositoryTagsProvider();
+
+        return invocation -> Tags.of(defaultTagsProvider.repositoryTags(invocation)).and(requestTags());
+    }
+
+    @Bean
+    public WebMvcTagsContributor sortTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response,
+                                         Object handler, Throwable exception) {
+                return Tags.of("sort", sort(request.getParameter("sort")));
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.empty();
+            }
+        };
+    }
+
+    private Iterable<Tag> serviceTags(ProceedingJoinPoint joinPoint) {
+        return Tags.of(
+                "class", joinPoint.getStaticPart().getSignature().getDeclaringType().getSimpleName(),
+                "method", joinPoint.getStaticPart().getSignature().getName()
+        ).and(requestTags());
+    }
+
+    private Tags requestTags() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Tags.of("endpoint", "none", "sort", "none");
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        String sort = attributes instanceof ServletRequestAttributes
+                ? ((ServletRequestAttributes) attributes).getRequest().getParameter("sort")
+                : null;
+
+        return Tags.of("endpoint", pattern == null ? "unknown" : pattern.toString(), "sort", sort(sort));
+    }
+
+    private String sort(String sort) {
+        if (sort == null) {
+            return "none";
+        }
+
+        return SORT_MODES.contains(sort) ? sort : "other";
+    }
+}
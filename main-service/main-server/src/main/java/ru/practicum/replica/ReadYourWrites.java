@@ -0,0 +1,78 @@
+package ru.practicum.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class ReadYourWrites {
+    private static final ThreadLocal<Client> CLIENT = new ThreadLocal<>();
+    private final Cache<String, Boolean> writers;
+
+    public ReadYourWrites(long stickyMs, long maximumSize) {
+        writers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(stickyMs))
+                .build();
+    }
+
+    public void bind(Long userId, String session, Consumer<String> sessionIssuer) {
+        CLIENT.set(new Client(userId, session, sessionIssuer));
+    }
+
+    public void clear() {
+        CLIENT.remove();
+    }
+
+    public boolean isSticky() {
+        Client client = CLIENT.get();
+
+        return client != null && (isSticky(userKey(client.userId)) || isSticky(sessionKey(client.session)));
+    }
+
+    public void registerWrite() {
+        Client client = CLIENT.get();
+        if (client == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (client.session == null) {
+            client.session = UUID.randomUUID().toString();
+            client.sessionIssuer.accept(client.session);
+        }
+        String userKey = userKey(client.userId);
+        String sessionKey = sessionKey(client.session);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (userKey != null) {
+                    writers.put(userKey, Boolean.TRUE);
+                }
+                writers.put(sessionKey, Boolean.TRUE);
+            }
+        });
+    }
+
+    private boolean isSticky(String key) {
+        return key != null && writers.getIfPresent(key) != null;
+    }
+
+    private static String userKey(Long userId) {
+        return userId == null ? null : "user:" + userId;
+    }
+
+    private static String sessionKey(String session) {
+        return session == null ? null : "session:" + session;
+    }
+
+    @AllArgsConstructor
+    private static class Client {
+        private final Long userId;
+        private String session;
+        private final Consumer<String> sessionIssuer;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.replica;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final String SESSION_COOKIE = "ewm-session";
+    private static final Pattern USER_PATH = Pattern.compile("^/users/(\\d{1,18})(/.*)?$");
+    private final ReadYourWrites readYourWrites;
+    private final long stickyMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Matcher userPath = USER_PATH.matcher(request.getRequestURI());
+        Long userId = userPath.matches() ? Long.valueOf(userPath.group(1)) : null;
+        Cookie session = WebUtils.getCookie(request, SESSION_COOKIE);
+        readYourWrites.bind(userId, session == null ? null : session.getValue(),
+                value -> response.addCookie(sessionCookie(value)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.clear();
+        }
+    }
+
+    private Cookie sessionCookie(String value) {
+        Cookie cookie = new Cookie(SESSION_COOKIE, value);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) ((stickyMs + 999) / 1000));
+
+        return cookie;
+    }
+}
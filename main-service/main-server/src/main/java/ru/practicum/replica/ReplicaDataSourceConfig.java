@@ -0,0 +1,80 @@
+package ru.practicum.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "replica-datasource.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    @Value("${replica-datasource.urls}")
+    private List<String> replicaUrls;
+    @Value("${replica-datasource.max-lag-ms}")
+    private long maxLagMs;
+    @Value("${replica-datasource.sticky-ms}")
+    private long stickyMs;
+    @Value("${replica-datasource.sticky-maximum-size}")
+    private long stickyMaximumSize;
+    @Value("${replica-datasource.lag-query}")
+    private String lagQuery;
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(stickyMs, stickyMaximumSize);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWrites readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites, stickyMs);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+                                                             ReadYourWrites readYourWrites,
+                                                             Environment environment) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.put("replica-" + i, pool(properties, environment, replicaUrls.get(i), "replica-" + i));
+        }
+        HikariDataSource primary = pool(properties, environment, properties.determineUrl(), "primary");
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+                primary, replicas, readYourWrites, lagQuery, maxLagMs);
+        dataSource.afterPropertiesSet();
+        dataSource.checkReplicas();
+
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties,
+                                         Environment environment,
+                                         String url,
+                                         String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("ewm-" + name);
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    private static final String PRIMARY = "primary";
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthyReplicas = Collections.emptyList();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReadYourWrites readYourWrites,
+                                    String lagQuery,
+                                    long maxLagMs) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Scheduled(fixedDelayString = "${replica-datasource.check-interval-ms}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            try {
+                Double lagMs = new JdbcTemplate(replica).queryForObject(lagQuery, Double.class);
+                if (lagMs != null && lagMs <= maxLagMs) {
+                    healthy.add(name);
+                } else {
+                    log.warn("Реплика {} отстает на {} мс, чтение переведено на основную базу", name, lagMs);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Реплика {} недоступна, чтение переведено на основную базу: {}", name, ex.toString());
+            }
+        });
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Доступные для чтения реплики: {}", healthy);
+        }
+        healthyReplicas = healthy;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.registerWrite();
+            }
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty() || readYourWrites.isSticky()) {
+            return PRIMARY;
+        }
+
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : replicas.values()) {
+            close(dataSource);
+        }
+        close(primary);
+    }
+
+    private void close(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable) {
+            ((Closeable) dataSource).close();
+        }
+    }
+}
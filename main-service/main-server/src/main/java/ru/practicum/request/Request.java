@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "requests", uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "requester_id"}))
+@Table(name = "requests",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "requester_id"}),
+        indexes = {
+                @Index(name = "ix_requests_event_id_status", columnList = "event_id, status"),
+                @Index(name = "ix_requests_requester_id", columnList = "requester_id")
+        })
 @Getter
 @Setter
 @ToString
@@ -19,8 +24,12 @@ import java.util.Objects;
 @Builder
 public class Request {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     private Long id;
+    @Version
+    @Column(nullable = false)
+    private Long version;
     @Column(nullable = false)
     private LocalDateTime created;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package ru.practicum.request;
 
 import lombok.experimental.UtilityClass;
+import ru.practicum.enums.Status;
 
 import java.time.format.DateTimeFormatter;
 
@@ -15,6 +16,18 @@ public class RequestMapper {
                 .event(request.getEvent().getId())
                 .requester(request.getRequester().getId())
                 .status(request.getStatus())
+                .version(request.getVersion())
+                .build();
+    }
+
+    public ParticipationRequestDto toDto(RequestView request, Status status) {
+        return ParticipationRequestDto.builder()
+                .id(request.getId())
+                .created(request.getCreated().format(formatter))
+                .event(request.getEventId())
+                .requester(request.getRequesterId())
+                .status(status)
+                .version(request.getVersion() + 1)
                 .build();
     }
 }
@@ -1,9 +1,11 @@
 package ru.practicum.request;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import ru.practicum.event.EventConfirmedRequests;
+import ru.practicum.enums.Status;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,16 +14,19 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
     List<Request> findAllByEventId(Long eventId);
 
-    @Query("select count(r) " +
-            "from Request as r " +
-            "where r.status = 'CONFIRMED' and r.event.id = ?1")
-    Long findEventConfirmedRequests(Long eventId);
+    Optional<Request> findByRequesterIdAndEventId(Long userId, Long eventId);
 
-    @Query("select new ru.practicum.event.EventConfirmedRequests(r.event.id, count(r)) " +
+    @Query("select new ru.practicum.request.RequestView(r.id, r.created, r.event.id, r.requester.id, r.status, r.version) " +
             "from Request as r " +
-            "where r.status = 'CONFIRMED' " +
-            "group by r.event.id")
-    List<EventConfirmedRequests> findAllEventConfirmedRequests();
+            "where r.event.id = ?1 and r.id in ?2 " +
+            "order by r.created, r.id")
+    List<RequestView> findAllViewsByEventIdAndIdIn(long eventId, Collection<Long> requestIds);
 
-    Optional<Request> findByRequesterIdAndEventId(Long userId, Long eventId);
+    @Modifying
+    @Query("update versioned Request as r set r.status = ?3 where r.id in ?1 and r.status = ?2")
+    int updateStatuses(Collection<Long> requestIds, Status expected, Status status);
+
+    @Modifying
+    @Query("update versioned Request as r set r.status = ?3 where r.event.id = ?1 and r.status = ?2")
+    int updateEventStatuses(long eventId, Status expected, Status status);
 }
\ No newline at end of file
@@ -1,23 +1,29 @@
 package ru.practicum.request;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.concurrency.RetryOnConflict;
 import ru.practicum.enums.State;
 import ru.practicum.enums.Status;
 import ru.practicum.event.Event;
+import ru.practicum.event.EventCache;
 import ru.practicum.event.EventRepository;
 import ru.practicum.exception.IllegalOperationException;
 import ru.practicum.exception.NotFoundException;
 import ru.practicum.user.User;
 import ru.practicum.user.UserRepository;
+import ru.practicum.version.Resource;
+import ru.practicum.version.ResourceVersions;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -25,12 +31,15 @@ public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventCache eventCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     public List<ParticipationRequestDto> getUserRequests(long userId) {
         getUser(userId);
         List<Request> requests = requestRepository.findAllByRequesterId(userId);
-        log.info("Возвращен список запросов: {}", requests);
+        log.info("Возвращен список запросов: количество={}", requests.size());
+        log.debug("Возвращен список запросов: {}", requests);
 
         return requests.stream().map(RequestMapper::toDto).collect(Collectors.toList());
     }
@@ -46,7 +55,7 @@ public class RequestServiceImpl implements RequestService {
         if (event.getState() != State.PUBLISHED) {
             throw new IllegalOperationException("Event must be published to add a request.");
         }
-        if (event.getParticipantLimit() > 0 && event.getConfirmedRequests() == event.getParticipantLimit()) {
+        if (event.getParticipantLimit() > 0 && event.getConfirmedRequests() >= event.getParticipantLimit()) {
             throw new IllegalOperationException("The event has full participant limit.");
         }
         Request request = Request.builder()
@@ -57,20 +66,35 @@ public class RequestServiceImpl implements RequestService {
                 .build();
         Request newRequest = requestRepository.save(request);
         if (request.getStatus() == Status.CONFIRMED) {
+            if (eventRepository.reserveSlots(eventId, 1) == 0) {
+                throw new IllegalOperationException("The event has full participant limit.");
+            }
             event.setConfirmedRequests(event.getConfirmedRequests() + 1);
+            eventCache.evictConfirmedRequests(eventId);
+            resourceVersions.bump(Resource.EVENTS);
         }
-        log.info("Добавлен запрос: {}", newRequest);
+        log.info("Добавлен запрос с id={}", newRequest.getId());
+        log.debug("Добавлен запрос: {}", newRequest);
 
         return RequestMapper.toDto(newRequest);
     }
 
     @Override
     @Transactional
+    @RetryOnConflict
     public ParticipationRequestDto cancelRequest(long userId, long requestId) {
         getUser(userId);
         Request request = getRequest(requestId);
+        Status status = request.getStatus();
         request.setStatus(Status.CANCELED);
-        log.info("Отменен запрос: {}", request);
+        requestRepository.flush();
+        if (status == Status.CONFIRMED) {
+            eventRepository.releaseSlots(request.getEvent().getId(), 1);
+            eventCache.evictConfirmedRequests(request.getEvent().getId());
+            resourceVersions.bump(Resource.EVENTS);
+        }
+        log.info("Отменен запрос с id={}", request.getId());
+        log.debug("Отменен запрос: {}", request);
 
         return RequestMapper.toDto(request);
     }
@@ -81,11 +105,8 @@ public class RequestServiceImpl implements RequestService {
     }
 
     private Event getEvent(long eventId) {
-        Event event = eventRepository.findById(eventId)
+        return eventRepository.findById(eventId)
                 .orElseThrow(() -> new NotFoundException("Event with id=" + eventId + " was not found"));
-        event.setConfirmedRequests(requestRepository.findEventConfirmedRequests(eventId));
-
-        return event;
     }
 
     private Request getRequest(long requestId) {
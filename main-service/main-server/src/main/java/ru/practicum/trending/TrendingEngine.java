@@ -0,0 +1,209 @@
+package ru.practicum.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingEngine {
+    private static final long LANDMARK = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::getLogScore).reversed()
+            .thenComparingLong(Entry::getEventId);
+    private static final double RESIDUAL = 1e-9;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<Long, NavigableSet<Entry>> categoryRankings = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    @Value("${trending.half-life-ms}")
+    private long halfLifeMs;
+    @Value("${trending.view-weight}")
+    private double viewWeight;
+    @Value("${trending.mark-weight}")
+    private double markWeight;
+    private double decayRate;
+
+    @PostConstruct
+    public void init() {
+        decayRate = Math.log(2) / halfLifeMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<TrendingScore> scores = trendingScoreRepository.findAll();
+        synchronized (this) {
+            scores.forEach(score -> put(new Entry(score.getEventId(), score.getCategoryId(), score.getLogScore())));
+        }
+        log.info("Загружены трендовые оценки событий: {}", scores.size());
+    }
+
+    public void recordView(long eventId, long categoryId) {
+        add(eventId, categoryId, viewWeight, System.currentTimeMillis());
+    }
+
+    public void recordMark(long eventId, long categoryId, int mark, LocalDateTime markedOn) {
+        long markedAt = toEpochMilli(markedOn);
+        afterCommit(() -> add(eventId, categoryId, markWeight * mark / 10, markedAt));
+    }
+
+    public void retractMark(long eventId, int mark, LocalDateTime markedOn) {
+        long markedAt = toEpochMilli(markedOn);
+        afterCommit(() -> subtract(eventId, markWeight * mark / 10, markedAt));
+    }
+
+    public void moveEvent(long eventId, long categoryId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                Entry entry = entries.get(eventId);
+                if (entry != null && entry.getCategoryId() != categoryId) {
+                    remove(entry);
+                    put(new Entry(eventId, categoryId, entry.getLogScore()));
+                    dirty.add(eventId);
+                }
+            }
+        });
+    }
+
+    public double getScore(long eventId) {
+        Entry entry = entries.get(eventId);
+
+        return entry == null ? 0 : Math.exp(entry.getLogScore() - decayRate * (System.currentTimeMillis() - LANDMARK));
+    }
+
+    public List<Long> getTopEvents(Long categoryId, int size) {
+        NavigableSet<Entry> source = categoryId == null
+                ? ranking
+                : categoryRankings.getOrDefault(categoryId, Collections.emptyNavigableSet());
+        List<Long> eventIds = new ArrayList<>(size);
+        Iterator<Entry> iterator = source.iterator();
+        while (iterator.hasNext() && eventIds.size() < size) {
+            eventIds.add(iterator.next().getEventId());
+        }
+
+        return eventIds;
+    }
+
+    @Scheduled(fixedDelayString = "${trending.flush-interval-ms}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<TrendingScore> scores = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (Iterator<Long> iterator = dirty.iterator(); iterator.hasNext(); ) {
+            Long eventId = iterator.next();
+            iterator.remove();
+            Entry entry = entries.get(eventId);
+            if (entry != null) {
+                scores.add(new TrendingScore(entry.getEventId(), entry.getCategoryId(), entry.getLogScore()));
+            } else {
+                removed.add(eventId);
+            }
+        }
+        trendingScoreRepository.saveAll(scores);
+        if (!removed.isEmpty()) {
+            trendingScoreRepository.deleteAllByEventIds(removed);
+        }
+        log.debug("Сохранены трендовые оценки событий: {}", scores.stream()
+                .map(TrendingScore::getEventId)
+                .collect(Collectors.toList()));
+    }
+
+    private synchronized void add(long eventId, long categoryId, double weight, long recordedAt) {
+        if (weight <= 0) {
+            return;
+        }
+        double logWeight = Math.log(weight) + decayRate * (recordedAt - LANDMARK);
+        Entry entry = entries.get(eventId);
+        double logScore = logWeight;
+        if (entry != null) {
+            remove(entry);
+            logScore = logAdd(entry.getLogScore(), logWeight);
+        }
+        put(new Entry(eventId, categoryId, logScore));
+        dirty.add(eventId);
+    }
+
+    private synchronized void subtract(long eventId, double weight, long recordedAt) {
+        Entry entry = entries.get(eventId);
+        if (entry == null || weight <= 0) {
+            return;
+        }
+        double logWeight = Math.log(weight) + decayRate * (recordedAt - LANDMARK);
+        remove(entry);
+        if (logWeight < entry.getLogScore() - RESIDUAL) {
+            put(new Entry(eventId, entry.getCategoryId(), logSubtract(entry.getLogScore(), logWeight)));
+        } else {
+            entries.remove(eventId);
+        }
+        dirty.add(eventId);
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.getEventId(), entry);
+        ranking.add(entry);
+        categoryRankings.computeIfAbsent(entry.getCategoryId(), id -> new ConcurrentSkipListSet<>(RANKING))
+                .add(entry);
+    }
+
+    private void remove(Entry entry) {
+        ranking.remove(entry);
+        NavigableSet<Entry> categoryRanking = categoryRankings.get(entry.getCategoryId());
+        if (categoryRanking != null) {
+            categoryRanking.remove(entry);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+
+        return max + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    private static double logSubtract(double a, double b) {
+        return a + Math.log1p(-Math.exp(b - a));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final long eventId;
+        private final long categoryId;
+        private final double logScore;
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.trending;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "trending_scores", indexes = @Index(name = "ix_trending_scores_category", columnList = "category_id"))
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingScore {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+    @Column(name = "category_id", nullable = false)
+    private long categoryId;
+    @Column(name = "log_score", nullable = false)
+    private double logScore;
+}
@@ -0,0 +1,15 @@
+package ru.practicum.trending;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+    @Transactional
+    @Modifying
+    @Query("delete from TrendingScore as s where s.eventId in ?1")
+    int deleteAllByEventIds(Collection<Long> eventIds);
+}
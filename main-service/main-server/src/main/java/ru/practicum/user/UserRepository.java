@@ -5,7 +5,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+    @Query("select new ru.practicum.user.UserDto(u.id, u.name, u.email) from User as u where u.id in ?1")
+    List<UserDto> findUsers(Collection<Long> ids);
+
+    @Query("select new ru.practicum.user.UserDto(u.id, u.name, u.email) from User as u")
+    List<UserDto> findUsers(Pageable page);
+
     @Query("select new ru.practicum.user.Initiator(u.id, u.name, u.email, avg(m.mark)) " +
             "from User as u " +
             "inner join Event as e on u.id = e.initiator.id " +
@@ -1,5 +1,6 @@
 package ru.practicum.user;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -9,9 +10,9 @@ import ru.practicum.exception.NotFoundException;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -20,12 +21,13 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<UserDto> getUsers(Set<Long> ids, int from, int size) {
-        List<User> users = ids != null && !ids.isEmpty()
-                ? userRepository.findAllById(ids)
-                : userRepository.findAll(PageRequest.of(from / size, size)).getContent();
-        log.info("Возвращен список объектов: {}", users);
+        List<UserDto> users = ids != null && !ids.isEmpty()
+                ? userRepository.findUsers(ids)
+                : userRepository.findUsers(PageRequest.of(from / size, size));
+        log.info("Возвращен список объектов: количество={}", users.size());
+        log.debug("Возвращен список объектов: {}", users);
 
-        return users.stream().map(UserMapper::toDto).collect(Collectors.toList());
+        return users;
     }
 
     @Override
@@ -33,7 +35,8 @@ public class UserServiceImpl implements UserService {
     public UserDto addUser(NewUserRequest newUserRequest) {
         User user = UserMapper.fromDto(newUserRequest);
         User newUser = userRepository.save(user);
-        log.info("Добавлен новый пользователь: {}", newUser);
+        log.info("Добавлен новый пользователь с id={}", newUser.getId());
+        log.debug("Добавлен новый пользователь: {}", newUser);
 
         return UserMapper.toDto(newUser);
     }
@@ -0,0 +1,8 @@
+package ru.practicum.version;
+
+public enum Resource {
+    CATEGORIES,
+    COMPILATIONS,
+    EVENTS,
+    MARKS
+}
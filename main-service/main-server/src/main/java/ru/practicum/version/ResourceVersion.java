@@ -0,0 +1,21 @@
+package ru.practicum.version;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "resource_versions")
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResourceVersion {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Resource resource;
+    @Column(nullable = false)
+    private long version;
+}
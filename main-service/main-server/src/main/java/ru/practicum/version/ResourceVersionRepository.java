@@ -0,0 +1,11 @@
+package ru.practicum.version;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ResourceVersionRepository extends JpaRepository<ResourceVersion, Resource> {
+    @Modifying
+    @Query("update ResourceVersion as rv set rv.version = rv.version + 1 where rv.resource = ?1")
+    int increment(Resource resource);
+}
@@ -0,0 +1,73 @@
+package ru.practicum.version;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersions {
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final PlatformTransactionManager transactionManager;
+    @Value("${etag.views-window-ms}")
+    private long viewsWindowMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        for (Resource resource : Resource.values()) {
+            if (!resourceVersionRepository.existsById(resource)) {
+                resourceVersionRepository.save(new ResourceVersion(resource, 0));
+            }
+        }
+    }
+
+    public void bump(Resource resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(resource);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(resource);
+            }
+        });
+    }
+
+    public String getETag(Resource... resources) {
+        Map<Resource, Long> versions = new EnumMap<>(Resource.class);
+        resourceVersionRepository.findAllById(Arrays.asList(resources))
+                .forEach(version -> versions.put(version.getResource(), version.getVersion()));
+
+        return Arrays.stream(resources)
+                .map(resource -> String.valueOf(versions.getOrDefault(resource, 0L)))
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    public String getViewsETag(Resource... resources) {
+        String eTag = getETag(resources);
+
+        return eTag.substring(0, eTag.length() - 1) + "-" + System.currentTimeMillis() / viewsWindowMs + "\"";
+    }
+
+    private void increment(Resource resource) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> resourceVersionRepository.increment(resource));
+        log.debug("Увеличена версия ресурса {}", resource);
+    }
+}
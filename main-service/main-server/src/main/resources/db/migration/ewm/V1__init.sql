@@ -0,0 +1,138 @@
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id BIGINT NOT NULL,
+    email VARCHAR(254) NOT NULL,
+    name VARCHAR(250) NOT NULL,
+    CONSTRAINT pk_user PRIMARY KEY (id),
+    CONSTRAINT uq_user_email UNIQUE (email)
+);
+
+CREATE SEQUENCE categories_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE categories (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_cat PRIMARY KEY (id),
+    CONSTRAINT uq_cat_name UNIQUE (name)
+);
+
+CREATE SEQUENCE events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE events (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    annotation VARCHAR(2000) NOT NULL,
+    category_id BIGINT NOT NULL,
+    created_on TIMESTAMP NOT NULL,
+    description VARCHAR(7000) NOT NULL,
+    event_date TIMESTAMP NOT NULL,
+    initiator_id BIGINT NOT NULL,
+    lat FLOAT NOT NULL,
+    lon FLOAT NOT NULL,
+    geo_key BIGINT NOT NULL,
+    paid BOOLEAN NOT NULL,
+    participant_limit INTEGER NOT NULL,
+    confirmed_requests BIGINT DEFAULT 0 NOT NULL,
+    published_on TIMESTAMP,
+    request_moderation BOOLEAN NOT NULL,
+    state VARCHAR(9) NOT NULL,
+    title VARCHAR(120) NOT NULL,
+    CONSTRAINT pk_event PRIMARY KEY (id),
+    CONSTRAINT fk_event_cat FOREIGN KEY (category_id) REFERENCES categories,
+    CONSTRAINT fk_event_user FOREIGN KEY (initiator_id) REFERENCES users
+);
+
+CREATE INDEX ix_events_geo_key ON events (geo_key);
+
+CREATE SEQUENCE requests_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE requests (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    created TIMESTAMP NOT NULL,
+    event_id BIGINT NOT NULL,
+    requester_id BIGINT NOT NULL,
+    status VARCHAR(9) NOT NULL,
+    CONSTRAINT pk_req PRIMARY KEY (id),
+    CONSTRAINT uq_req_event_user UNIQUE (event_id, requester_id),
+    CONSTRAINT fk_req_event FOREIGN KEY (event_id) REFERENCES events,
+    CONSTRAINT fk_req_user FOREIGN KEY (requester_id) REFERENCES users
+);
+
+CREATE SEQUENCE marks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE marks (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    mark INTEGER NOT NULL,
+    marked_on TIMESTAMP NOT NULL,
+    message VARCHAR(1000),
+    CONSTRAINT pk_mark PRIMARY KEY (id),
+    CONSTRAINT uq_mark_user_event UNIQUE (user_id, event_id),
+    CONSTRAINT fk_mark_user FOREIGN KEY (user_id) REFERENCES users,
+    CONSTRAINT fk_mark_event FOREIGN KEY (event_id) REFERENCES events
+);
+
+CREATE SEQUENCE compilations_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE compilations (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    pinned BOOLEAN NOT NULL,
+    title VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_comp PRIMARY KEY (id),
+    CONSTRAINT uq_comp_title UNIQUE (title)
+);
+
+CREATE TABLE compilation_event (
+    comp_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    CONSTRAINT pk_comp_event PRIMARY KEY (comp_id, event_id),
+    CONSTRAINT fk_ce_comp FOREIGN KEY (comp_id) REFERENCES compilations,
+    CONSTRAINT fk_ce_event FOREIGN KEY (event_id) REFERENCES events
+);
+
+CREATE SEQUENCE areas_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE areas (
+    id BIGINT NOT NULL,
+    name VARCHAR(120) NOT NULL,
+    lat FLOAT NOT NULL,
+    lon FLOAT NOT NULL,
+    radius FLOAT NOT NULL,
+    min_lat FLOAT NOT NULL,
+    max_lat FLOAT NOT NULL,
+    CONSTRAINT pk_area PRIMARY KEY (id),
+    CONSTRAINT uq_area_name UNIQUE (name)
+);
+
+CREATE INDEX ix_areas_lat_range ON areas (min_lat, max_lat);
+
+CREATE TABLE area_events (
+    area_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    CONSTRAINT pk_area_event PRIMARY KEY (area_id, event_id),
+    CONSTRAINT fk_ae_area FOREIGN KEY (area_id) REFERENCES areas,
+    CONSTRAINT fk_ae_event FOREIGN KEY (event_id) REFERENCES events
+);
+
+CREATE INDEX ix_area_events_event_id ON area_events (event_id);
+
+CREATE TABLE resource_versions (
+    resource VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT pk_resource_version PRIMARY KEY (resource)
+);
+
+CREATE TABLE trending_scores (
+    event_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    log_score FLOAT NOT NULL,
+    CONSTRAINT pk_trending_score PRIMARY KEY (event_id)
+);
+
+CREATE INDEX ix_trending_scores_category ON trending_scores (category_id);
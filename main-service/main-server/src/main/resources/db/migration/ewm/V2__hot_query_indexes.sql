@@ -0,0 +1,7 @@
+CREATE INDEX ix_events_state_event_date ON events (state, event_date);
+CREATE INDEX ix_events_initiator_id ON events (initiator_id);
+CREATE INDEX ix_events_category_id ON events (category_id);
+CREATE INDEX ix_requests_event_id_status ON requests (event_id, status);
+CREATE INDEX ix_requests_requester_id ON requests (requester_id);
+CREATE INDEX ix_marks_event_id ON marks (event_id);
+CREATE INDEX ix_marks_marked_on ON marks (marked_on);
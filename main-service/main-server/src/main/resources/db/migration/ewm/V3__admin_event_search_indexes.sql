@@ -0,0 +1,8 @@
+DROP INDEX ix_events_state_event_date;
+DROP INDEX ix_events_initiator_id;
+DROP INDEX ix_events_category_id;
+
+CREATE INDEX ix_events_state_event_date_id ON events (state, event_date, id);
+CREATE INDEX ix_events_initiator_id_event_date_id ON events (initiator_id, event_date, id);
+CREATE INDEX ix_events_category_id_event_date_id ON events (category_id, event_date, id);
+CREATE INDEX ix_events_event_date_id ON events (event_date, id);
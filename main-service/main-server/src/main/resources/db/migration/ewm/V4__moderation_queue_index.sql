@@ -0,0 +1 @@
+CREATE INDEX ix_events_state_created_on_id ON events (state, created_on, id);
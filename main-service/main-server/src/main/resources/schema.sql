@@ -1,84 +0,0 @@
-DROP TABLE IF EXISTS compilation_event CASCADE;
-DROP TABLE IF EXISTS compilations CASCADE;
-DROP TABLE IF EXISTS requests CASCADE;
-DROP TABLE IF EXISTS events CASCADE;
-DROP TABLE IF EXISTS categories CASCADE;
-DROP TABLE IF EXISTS users CASCADE;
-
-CREATE TABLE IF NOT EXISTS users (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    email VARCHAR(254) NOT NULL,
-    name VARCHAR(250) NOT NULL,
-    CONSTRAINT pk_user PRIMARY KEY (id),
-    CONSTRAINT uq_user_email UNIQUE (email)
-);
-
-CREATE TABLE IF NOT EXISTS categories (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    name VARCHAR(50) NOT NULL,
-    CONSTRAINT pk_cat PRIMARY KEY (id),
-    CONSTRAINT uq_cat_name UNIQUE (name)
-);
-
-CREATE TABLE IF NOT EXISTS events (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    annotation VARCHAR(2000) NOT NULL,
-    category_id BIGINT NOT NULL,
-    created_on TIMESTAMP NOT NULL,
-    description VARCHAR(7000) NOT NULL,
-    event_date TIMESTAMP NOT NULL,
-    initiator_id BIGINT NOT NULL,
-    lat FLOAT NOT NULL,
-    lon FLOAT NOT NULL,
-    paid BOOLEAN NOT NULL,
-    participant_limit BIGINT NOT NULL,
-    published_on TIMESTAMP,
-    request_moderation BOOLEAN NOT NULL,
-    state VARCHAR(9) NOT NULL,
-    title VARCHAR(120) NOT NULL,
-    views BIGINT NOT NULL,
-    CONSTRAINT pk_event PRIMARY KEY (id),
-    CONSTRAINT fk_event_cat FOREIGN KEY (category_id) REFERENCES categories,
-    CONSTRAINT fk_event_user FOREIGN KEY (initiator_id) REFERENCES users
-);
-
-CREATE TABLE IF NOT EXISTS requests (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    created TIMESTAMP NOT NULL,
-    event_id BIGINT NOT NULL,
-    requester_id BIGINT NOT NULL,
-    status VARCHAR(9) NOT NULL,
-    CONSTRAINT pk_req PRIMARY KEY (id),
-    CONSTRAINT uq_req_event_user UNIQUE (event_id, requester_id),
-    CONSTRAINT fk_req_event FOREIGN KEY (event_id) REFERENCES events,
-    CONSTRAINT fk_req_user FOREIGN KEY (requester_id) REFERENCES users
-);
-
-CREATE TABLE IF NOT EXISTS marks (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    user_id BIGINT NOT NULL,
-    event_id BIGINT NOT NULL,
-    mark INTEGER NOT NULL,
-    marked_on TIMESTAMP NOT NULL,
-    message VARCHAR(1000),
-    CONSTRAINT pk_mark PRIMARY KEY (id),
-    CONSTRAINT uq_mark_user_event UNIQUE (user_id, event_id),
-    CONSTRAINT fk_mark_user FOREIGN KEY (user_id) REFERENCES users,
-    CONSTRAINT fk_mark_event FOREIGN KEY (event_id) REFERENCES events
-);
-
-CREATE TABLE IF NOT EXISTS compilations (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    pinned BOOLEAN NOT NULL,
-    title VARCHAR(50) NOT NULL,
-    CONSTRAINT pk_comp PRIMARY KEY (id),
-    CONSTRAINT uq_comp_title UNIQUE (title)
-);
-
-CREATE TABLE IF NOT EXISTS compilation_event (
-    comp_id BIGINT NOT NULL,
-    event_id BIGINT NOT NULL,
-    CONSTRAINT pk_comp_event PRIMARY KEY (comp_id, event_id),
-    CONSTRAINT fk_ce_comp FOREIGN KEY (comp_id) REFERENCES compilations,
-    CONSTRAINT fk_ce_event FOREIGN KEY (event_id) REFERENCES events
-);
\ No newline at end of file
@@ -0,0 +1,156 @@
+package ru.practicum.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.MainServer;
+import ru.practicum.category.CategoryService;
+import ru.practicum.category.NewCategoryDto;
+import ru.practicum.enums.StateActionAdmin;
+import ru.practicum.enums.Status;
+import ru.practicum.event.EventRepository;
+import ru.practicum.event.EventService;
+import ru.practicum.event.Location;
+import ru.practicum.event.NewEventDto;
+import ru.practicum.event.UpdateEventAdminRequest;
+import ru.practicum.exception.IllegalOperationException;
+import ru.practicum.user.NewUserRequest;
+import ru.practicum.user.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = MainServer.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class RequestServiceImplTest {
+    private static final int PARTICIPANT_LIMIT = 5;
+    private static final int REQUESTERS = 20;
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Autowired
+    private RequestService requestService;
+    @Autowired
+    private RequestRepository requestRepository;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    void addNewRequestShouldNotConfirmMoreThanParticipantLimit() throws Exception {
+        long eventId = addPublishedEvent();
+        List<Long> requesters = addUsers(REQUESTERS);
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (long userId : requesters) {
+            tasks.add(() -> tryAddRequest(userId, eventId));
+        }
+        long confirmed = runConcurrently(tasks).stream().filter(Boolean::booleanValue).count();
+
+        assertThat(confirmed).isEqualTo(PARTICIPANT_LIMIT);
+        assertThat(eventRepository.findConfirmedRequestsById(eventId)).contains((long) PARTICIPANT_LIMIT);
+        assertThat(countConfirmed(eventId)).isEqualTo(PARTICIPANT_LIMIT);
+    }
+
+    @Test
+    void cancelRequestShouldReleaseSlotsWithoutExceedingParticipantLimit() throws Exception {
+        long eventId = addPublishedEvent();
+        List<ParticipationRequestDto> confirmed = new ArrayList<>();
+        for (long userId : addUsers(PARTICIPANT_LIMIT)) {
+            confirmed.add(requestService.addNewRequest(userId, eventId));
+        }
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (ParticipationRequestDto request : confirmed) {
+            tasks.add(() -> requestService.cancelRequest(request.getRequester(), request.getId()) != null);
+        }
+        for (long userId : addUsers(REQUESTERS)) {
+            tasks.add(() -> tryAddRequest(userId, eventId));
+        }
+        runConcurrently(tasks);
+
+        long counter = eventRepository.findConfirmedRequestsById(eventId).orElseThrow();
+        assertThat(counter).isLessThanOrEqualTo(PARTICIPANT_LIMIT);
+        assertThat(counter).isEqualTo(countConfirmed(eventId));
+    }
+
+    private boolean tryAddRequest(long userId, long eventId) {
+        try {
+            return requestService.addNewRequest(userId, eventId).getStatus() == Status.CONFIRMED;
+        } catch (IllegalOperationException e) {
+            return false;
+        }
+    }
+
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long addPublishedEvent() {
+        long initiatorId = addUsers(1).get(0);
+        long categoryId = categoryService.createCategory(new NewCategoryDto("category" + SEQUENCE.incrementAndGet()))
+                .getId();
+        NewEventDto newEvent = NewEventDto.builder()
+                .annotation("Annotation of the limited event")
+                .category(categoryId)
+                .description("Description of the limited event")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .location(new Location(55.75, 37.62))
+                .participantLimit(PARTICIPANT_LIMIT)
+                .requestModeration(false)
+                .title("Limited event")
+                .build();
+        long eventId = eventService.addNewEvent(initiatorId, newEvent).getId();
+        eventService.updateEventByAdmin(eventId, UpdateEventAdminRequest.builder()
+                .stateAction(StateActionAdmin.PUBLISH_EVENT)
+                .build());
+
+        return eventId;
+    }
+
+    private List<Long> addUsers(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long number = SEQUENCE.incrementAndGet();
+            ids.add(userService.addUser(new NewUserRequest("user" + number + "@mail.ru", "user" + number)).getId());
+        }
+        return ids;
+    }
+
+    private long countConfirmed(long eventId) {
+        return requestRepository.findAllByEventId(eventId).stream()
+                .filter(request -> request.getStatus() == Status.CONFIRMED)
+                .count();
+    }
+}
@@ -1,13 +1,18 @@
 package ru.practicum;
 
+import org.apache.http.impl.client.HttpClients;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,7 +22,17 @@ public class StatsClient {
     @Value("${stats-server.url}")
     private String serverUrl;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private final RestTemplate rest = new RestTemplate();
+    private final RestTemplate rest;
+
+    public StatsClient(ObjectProvider<RestTemplateBuilder> restTemplateBuilder,
+                       @Value("${stats-server.max-connections:200}") int maxConnections) {
+        this.rest = restTemplateBuilder.getIfAvailable(RestTemplateBuilder::new)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .build()))
+                .build();
+    }
 
     public ResponseEntity<EndpointHitDto> addHit(EndpointHitDto endpointHitDto) {
         HttpHeaders headers = new HttpHeaders();
@@ -33,16 +48,14 @@ public class StatsClient {
     }
 
     public ResponseEntity<List<ViewStats>> getStats(LocalDateTime start, LocalDateTime end, Set<String> uris, boolean unique) {
-        Map<String, Object> parameters = Map.of(
-                "start", start.format(FORMATTER),
-                "end", end.format(FORMATTER),
-                "unique", unique
-        );
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("start", start.format(FORMATTER));
+        parameters.put("end", end.format(FORMATTER));
+        parameters.put("unique", unique);
         StringBuilder path = new StringBuilder(serverUrl + "/stats?start={start}&end={end}&unique={unique}");
         if (uris != null && !uris.isEmpty()) {
-            for (String uri : uris) {
-                path.append("&uris=").append(uri);
-            }
+            path.append("&uris={uris}");
+            parameters.put("uris", String.join(",", uris));
         }
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -0,0 +1,118 @@
+package ru.practicum;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class ReactiveStatsClient {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final String serverUrl;
+    private final WebClient rest;
+
+    public ReactiveStatsClient(WebClient.Builder webClientBuilder,
+                               @Value("${stats-server.url}") String serverUrl,
+                               @Value("${stats-server.max-connections:200}") int maxConnections) {
+        this.serverUrl = serverUrl;
+        HttpClient httpClient = HttpClient.create(ConnectionProvider.builder("stats-server")
+                .maxConnections(maxConnections)
+                .build());
+        if (serverUrl.startsWith("https")) {
+            httpClient = httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        this.rest = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    public Mono<ResponseEntity<EndpointHitDto>> addHit(EndpointHitDto endpointHitDto) {
+        return rest.post()
+                .uri(serverUrl + "/hit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(endpointHitDto)
+                .retrieve()
+                .toEntity(EndpointHitDto.class)
+                .map(ReactiveStatsClient::prepareGatewayResponse);
+    }
+
+    public Mono<ResponseEntity<List<ViewStats>>> getStats(LocalDateTime start,
+                                                          LocalDateTime end,
+                                                          Set<String> uris,
+                                                          boolean unique) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("start", start.format(FORMATTER));
+        parameters.put("end", end.format(FORMATTER));
+        parameters.put("unique", unique);
+        StringBuilder path = new StringBuilder(serverUrl + "/stats?start={start}&end={end}&unique={unique}");
+        if (uris != null && !uris.isEmpty()) {
+            path.append("&uris={uris}");
+            parameters.put("uris", String.join(",", uris));
+        }
+
+        return rest.get()
+                .uri(path.toString(), parameters)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .toEntity(new ParameterizedTypeReference<List<ViewStats>>() {
+                })
+                .map(ReactiveStatsClient::prepareGatewayResponse);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> forwardHit(HttpHeaders headers, Flux<DataBuffer> body) {
+        return forward(rest.post()
+                .uri(URI.create(serverUrl + "/hit"))
+                .headers(forwarded -> copyContentHeaders(headers, forwarded))
+                .body(body, DataBuffer.class));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> forwardStats(String rawQuery, HttpHeaders headers) {
+        return forward(rest.get()
+                .uri(URI.create(serverUrl + "/stats?" + rawQuery))
+                .headers(forwarded -> forwarded.setAccept(headers.getAccept())));
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> forward(WebClient.RequestHeadersSpec<?> request) {
+        return request.retrieve()
+                .onStatus(HttpStatus::isError, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(response -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    copyContentHeaders(response.getHeaders(), headers);
+                    return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+                });
+    }
+
+    private static void copyContentHeaders(HttpHeaders from, HttpHeaders to) {
+        if (from.getContentType() != null) {
+            to.setContentType(from.getContentType());
+        }
+        if (from.getContentLength() >= 0) {
+            to.setContentLength(from.getContentLength());
+        }
+    }
+
+    private static <T> ResponseEntity<T> prepareGatewayResponse(ResponseEntity<T> response) {
+        return ResponseEntity.status(response.getStatusCode()).body(response.getBody());
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@ConditionalOnProperty(name = "stats-client.pass-through", havingValue = "false", matchIfMissing = true)
+@RequestMapping
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class StatsClientController {
+    private final ReactiveStatsClient statsClient;
+
+    @PostMapping("/hit")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ResponseEntity<EndpointHitDto>> hit(@RequestBody @Valid EndpointHitDto endpointHitDto) {
+        log.info("Получен запрос POST /hit");
+        return statsClient.addHit(endpointHitDto);
+    }
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<List<ViewStats>>> getStats(@RequestParam
+                                                          @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+                                                          LocalDateTime start,
+                                                          @RequestParam
+                                                          @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+                                                          LocalDateTime end,
+                                                          @RequestParam(required = false) Set<String> uris,
+                                                          @RequestParam(required = false) boolean unique) {
+        log.info("Получен запрос GET /stats?start={}&end={}&uris={}&unique={}", start, end, uris, unique);
+        return statsClient.getStats(start, end, uris, unique);
+    }
+}
\ No newline at end of file
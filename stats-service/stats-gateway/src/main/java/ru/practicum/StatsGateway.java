@@ -4,9 +4,9 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
-public class Client {
+public class StatsGateway {
 
     public static void main(String[] args) {
-        SpringApplication.run(Client.class, args);
+        SpringApplication.run(StatsGateway.class, args);
     }
 }
\ No newline at end of file
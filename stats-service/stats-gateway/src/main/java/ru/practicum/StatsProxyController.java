@@ -0,0 +1,34 @@
+package ru.practicum;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnProperty(name = "stats-client.pass-through", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StatsProxyController {
+    private final ReactiveStatsClient statsClient;
+
+    @PostMapping(value = "/hit", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> hit(ServerHttpRequest request) {
+        log.info("Получен запрос POST /hit");
+        return statsClient.forwardHit(request.getHeaders(), request.getBody());
+    }
+
+    @GetMapping(value = "/stats", params = {"start", "end"})
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getStats(ServerHttpRequest request) {
+        log.info("Получен запрос GET /stats?{}", request.getURI().getRawQuery());
+        return statsClient.forwardStats(request.getURI().getRawQuery(), request.getHeaders());
+    }
+}
@@ -3,11 +3,10 @@ package ru.practicum.exception;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @RestControllerAdvice
 @Slf4j
@@ -15,16 +14,15 @@ public class ExceptionControllerHandler {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @ExceptionHandler
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public Response handleHttpClientErrorException(HttpClientErrorException.BadRequest ex) {
+    public ResponseEntity<Response> handleWebClientResponseException(WebClientResponseException ex) {
         Response response;
         try {
             response = objectMapper.readValue(ex.getResponseBodyAsString(), Response.class);
         } catch (JsonProcessingException e) {
             response = new Response(ex.getMessage());
         }
-        log.error("Статус 400 BAD REQUEST: {}", response.getError(), ex);
+        log.error("Статус {}: {}", ex.getRawStatusCode(), response.getError(), ex);
 
-        return response;
+        return ResponseEntity.status(ex.getRawStatusCode()).body(response);
     }
-}
\ No newline at end of file
+}
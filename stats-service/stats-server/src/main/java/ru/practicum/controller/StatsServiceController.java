@@ -9,6 +9,7 @@ import ru.practicum.EndpointHitDto;
 import ru.practicum.ViewStats;
 import ru.practicum.service.StatsService;
 
+import javax.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -22,7 +23,7 @@ public class StatsServiceController {
 
     @PostMapping("/hit")
     @ResponseStatus(HttpStatus.CREATED)
-    public EndpointHitDto hit(@RequestBody EndpointHitDto endpointHitDto) {
+    public EndpointHitDto hit(@RequestBody @Valid EndpointHitDto endpointHitDto) {
         log.info("Получен запрос POST /hit");
         return statsService.addHit(endpointHitDto);
     }
@@ -0,0 +1,82 @@
+package ru.practicum.ingest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.EndpointHitDto;
+import ru.practicum.model.EndpointHit;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+@Component
+public class HitDeduplicator {
+    @Value("${stats-server.dedup.window-ms}")
+    private long windowMs;
+    @Value("${stats-server.dedup.maximum-size}")
+    private long maximumSize;
+    private Cache<Viewer, Long> viewers;
+    private Cache<String, Long> hitIds;
+
+    @PostConstruct
+    public void init() {
+        viewers = build();
+        hitIds = build();
+    }
+
+    public boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    public Long findRow(EndpointHitDto hit) {
+        return isEnabled() ? viewers.getIfPresent(viewerOf(hit)) : null;
+    }
+
+    public Viewer viewerOf(EndpointHitDto hit) {
+        return viewer(hit.getApp(), hit.getUri(), hit.getIp(), hit.getTimestamp());
+    }
+
+    public Long findRowByHitId(String hitId) {
+        return isEnabled() && hitId != null ? hitIds.getIfPresent(hitId) : null;
+    }
+
+    public void remember(EndpointHit row) {
+        if (!isEnabled()) {
+            return;
+        }
+        viewers.asMap().putIfAbsent(viewer(row.getApp(), row.getUri(), row.getIp(), row.getTimestamp()), row.getId());
+        rememberHitId(row.getHitId(), row.getId());
+    }
+
+    public void rememberHitId(String hitId, long rowId) {
+        if (isEnabled() && hitId != null) {
+            hitIds.put(hitId, rowId);
+        }
+    }
+
+    private Viewer viewer(String app, String uri, String ip, LocalDateTime timestamp) {
+        long bucket = Math.floorDiv(timestamp.toInstant(ZoneOffset.UTC).toEpochMilli(), Math.max(windowMs, 1));
+        return new Viewer(app, uri, ip, bucket);
+    }
+
+    private <K> Cache<K, Long> build() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(Math.max(windowMs, 1)))
+                .build();
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static class Viewer {
+        private final String app;
+        private final String uri;
+        private final String ip;
+        private final long bucket;
+    }
+}
@@ -0,0 +1,263 @@
+package ru.practicum.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.EndpointHitDto;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "stats-server.ingest.buffered", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class HitJournal {
+    private static final String JOURNAL_FILE = "hits.journal";
+    private static final String CHECKPOINT_FILE = "hits.checkpoint";
+    private static final String DEAD_LETTER_FILE = "hits.dead";
+    private static final byte NEW_LINE = '\n';
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BlockingQueue<PendingAppend> appends = new LinkedBlockingQueue<>();
+    private final BlockingQueue<JournalEntry> entries = new LinkedBlockingQueue<>();
+    @Value("${stats-server.ingest.journal-dir}")
+    private String journalDir;
+    @Value("${stats-server.ingest.append-timeout-ms}")
+    private long appendTimeoutMs;
+    @Value("${stats-server.ingest.write-batch-size}")
+    private int writeBatchSize;
+    private FileChannel journal;
+    private FileChannel checkpoint;
+    private FileChannel deadLetters;
+    private long position;
+    private long committed;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path dir = Paths.get(journalDir);
+        Files.createDirectories(dir);
+        journal = FileChannel.open(dir.resolve(JOURNAL_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpoint = FileChannel.open(dir.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        deadLetters = FileChannel.open(dir.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        committed = readCheckpoint();
+        replay();
+        running = true;
+        writer = new Thread(this::writeLoop, "hit-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        writer.join(appendTimeoutMs);
+        journal.close();
+        checkpoint.close();
+        deadLetters.close();
+    }
+
+    public void append(EndpointHitDto hit) {
+        if (!running) {
+            throw new IllegalStateException("Hit journal is closed");
+        }
+        validate(hit);
+        PendingAppend pending = new PendingAppend(serialize(hit), hit);
+        appends.add(pending);
+        try {
+            pending.done.get(appendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing hit to journal", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Failed to write hit to journal", ex);
+        }
+    }
+
+    public void validate(EndpointHitDto hit) {
+        Set<ConstraintViolation<EndpointHitDto>> violations = validator.validate(hit);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Incorrect hit: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    public synchronized void deadLetter(JournalEntry entry, String reason) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(serialize(entry.getHit()));
+        while (buffer.hasRemaining()) {
+            deadLetters.write(buffer);
+        }
+        deadLetters.force(false);
+        log.warn("Просмотр с hitId={} перенесен в файл отклоненных записей: {}", entry.getHit().getHitId(), reason);
+    }
+
+    public List<JournalEntry> poll(int maxEntries) {
+        List<JournalEntry> batch = new ArrayList<>();
+        entries.drainTo(batch, maxEntries);
+
+        return batch;
+    }
+
+    public synchronized void commit(long offset) throws IOException {
+        committed = offset;
+        if (committed == position) {
+            journal.truncate(0);
+            journal.force(true);
+            position = 0;
+            committed = 0;
+        }
+        writeCheckpoint(committed);
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>();
+        while (running || !appends.isEmpty()) {
+            try {
+                PendingAppend first = appends.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                appends.drainTo(batch, writeBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void write(List<PendingAppend> batch) {
+        long start = position;
+        try {
+            List<JournalEntry> written = new ArrayList<>(batch.size());
+            for (PendingAppend pending : batch) {
+                ByteBuffer buffer = ByteBuffer.wrap(pending.bytes);
+                while (buffer.hasRemaining()) {
+                    position += journal.write(buffer, position);
+                }
+                written.add(new JournalEntry(position, pending.hit));
+            }
+            journal.force(false);
+            entries.addAll(written);
+            batch.forEach(pending -> pending.done.complete(null));
+        } catch (IOException ex) {
+            log.error("Ошибка записи в журнал просмотров", ex);
+            position = start;
+            truncateQuietly(start);
+            batch.forEach(pending -> pending.done.completeExceptionally(ex));
+        }
+    }
+
+    private void replay() throws IOException {
+        long size = journal.size();
+        if (committed > size) {
+            committed = 0;
+            writeCheckpoint(0);
+        }
+        byte[] bytes = readFully(journal, committed, (int) (size - committed));
+        int lineStart = 0;
+        int replayed = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == NEW_LINE) {
+                EndpointHitDto hit = objectMapper.readValue(bytes, lineStart, i - lineStart, EndpointHitDto.class);
+                entries.add(new JournalEntry(committed + i + 1, hit));
+                lineStart = i + 1;
+                replayed++;
+            }
+        }
+        position = committed + lineStart;
+        if (position < size) {
+            log.warn("Отброшена неполная запись в конце журнала просмотров: {} байт", size - position);
+            journal.truncate(position);
+            journal.force(true);
+        }
+        log.info("Восстановлено из журнала просмотров записей: {}", replayed);
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (checkpoint.size() < Long.BYTES) {
+            return 0;
+        }
+
+        return ByteBuffer.wrap(readFully(checkpoint, 0, Long.BYTES)).getLong();
+    }
+
+    private byte[] readFully(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file at offset " + (offset + buffer.position()));
+            }
+        }
+
+        return buffer.array();
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, offset);
+        while (buffer.hasRemaining()) {
+            checkpoint.write(buffer, buffer.position());
+        }
+        checkpoint.force(false);
+    }
+
+    private void truncateQuietly(long size) {
+        try {
+            journal.truncate(size);
+        } catch (IOException ex) {
+            log.error("Не удалось откатить журнал просмотров до {} байт", size, ex);
+        }
+    }
+
+    private byte[] serialize(EndpointHitDto hit) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(hit);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = NEW_LINE;
+
+            return line;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Unable to serialize hit", ex);
+        }
+    }
+
+    private static class PendingAppend {
+        private final byte[] bytes;
+        private final EndpointHitDto hit;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        PendingAppend(byte[] bytes, EndpointHitDto hit) {
+            this.bytes = bytes;
+            this.hit = hit;
+        }
+    }
+}
\ No newline at end of file
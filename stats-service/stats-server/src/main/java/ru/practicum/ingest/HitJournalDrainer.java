@@ -0,0 +1,91 @@
+package ru.practicum.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.service.StatsService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "stats-server.ingest.buffered", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class HitJournalDrainer {
+    private final HitJournal hitJournal;
+    private final StatsService statsService;
+    @Value("${stats-server.ingest.drain-batch-size}")
+    private int drainBatchSize;
+    private List<JournalEntry> batch = new ArrayList<>();
+    private long batchEnd;
+
+    @Scheduled(fixedDelayString = "${stats-server.ingest.drain-interval-ms}")
+    public void drain() {
+        boolean fullBatch = true;
+        while (fullBatch) {
+            if (batch.isEmpty()) {
+                batch = hitJournal.poll(drainBatchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                fullBatch = batch.size() == drainBatchSize;
+                batchEnd = batch.get(batch.size() - 1).getEnd();
+            }
+            try {
+                rejectInvalid();
+                store();
+                hitJournal.commit(batchEnd);
+            } catch (DataAccessException | IOException ex) {
+                log.error("Не удалось перенести просмотры из журнала в базу, повтор через интервал", ex);
+                return;
+            }
+        }
+    }
+
+    private void rejectInvalid() throws IOException {
+        for (Iterator<JournalEntry> iterator = batch.iterator(); iterator.hasNext(); ) {
+            JournalEntry entry = iterator.next();
+            try {
+                hitJournal.validate(entry.getHit());
+            } catch (IllegalArgumentException ex) {
+                hitJournal.deadLetter(entry, ex.getMessage());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void store() throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            statsService.addHits(batch.stream().map(JournalEntry::getHit).collect(Collectors.toList()));
+            batch.clear();
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Пакет просмотров отклонен базой, перенос по одной записи: {}",
+                    ex.getMostSpecificCause().toString());
+            storeOneByOne();
+        }
+    }
+
+    private void storeOneByOne() throws IOException {
+        for (Iterator<JournalEntry> iterator = batch.iterator(); iterator.hasNext(); ) {
+            JournalEntry entry = iterator.next();
+            try {
+                statsService.addHits(List.of(entry.getHit()));
+            } catch (DataIntegrityViolationException ex) {
+                hitJournal.deadLetter(entry, ex.getMostSpecificCause().toString());
+            }
+            iterator.remove();
+        }
+    }
+}
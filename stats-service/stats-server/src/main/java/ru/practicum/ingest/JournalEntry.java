@@ -0,0 +1,12 @@
+package ru.practicum.ingest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.EndpointHitDto;
+
+@Getter
+@RequiredArgsConstructor
+public class JournalEntry {
+    private final long end;
+    private final EndpointHitDto hit;
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package ru.practicum.model;
+
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "collapsed_hits", indexes = @Index(name = "ix_collapsed_hits_row_id", columnList = "row_id"))
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CollapsedHit implements Persistable<String> {
+    @Id
+    @Column(name = "hit_id")
+    private String hitId;
+    @Column(name = "row_id", nullable = false)
+    private long rowId;
+
+    @Override
+    public String getId() {
+        return hitId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
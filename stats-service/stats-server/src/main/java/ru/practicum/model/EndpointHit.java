@@ -7,7 +7,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "endpoint_hits")
+@Table(name = "endpoint_hits", indexes = @Index(name = "ix_endpoint_hits_created", columnList = "created"))
 @Getter
 @Setter
 @ToString
@@ -16,8 +16,11 @@ import java.util.Objects;
 @Builder
 public class EndpointHit {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "endpoint_hits_seq")
+    @SequenceGenerator(name = "endpoint_hits_seq", sequenceName = "endpoint_hits_seq", allocationSize = 50)
     private Long id;
+    @Column(name = "hit_id", unique = true)
+    private String hitId;
     @Column(name = "app", nullable = false)
     private String app;
     @Column(name = "uri", nullable = false)
@@ -26,6 +29,8 @@ public class EndpointHit {
     private String ip;
     @Column(name = "created", nullable = false)
     private LocalDateTime timestamp;
+    @Column(name = "hits", nullable = false)
+    private int hits;
 
     @Override
     public boolean equals(Object o) {
@@ -8,16 +8,19 @@ public class EndpointHitMapper {
     public EndpointHit fromDto(EndpointHitDto endpointHitDto) {
         return EndpointHit.builder()
                 .id(endpointHitDto.getId())
+                .hitId(endpointHitDto.getHitId())
                 .app(endpointHitDto.getApp())
                 .uri(endpointHitDto.getUri())
                 .ip(endpointHitDto.getIp())
                 .timestamp(endpointHitDto.getTimestamp())
+                .hits(1)
                 .build();
     }
 
     public EndpointHitDto toDto(EndpointHit endpointHit) {
         return EndpointHitDto.builder()
                 .id(endpointHit.getId())
+                .hitId(endpointHit.getHitId())
                 .app(endpointHit.getApp())
                 .uri(endpointHit.getUri())
                 .ip(endpointHit.getIp())
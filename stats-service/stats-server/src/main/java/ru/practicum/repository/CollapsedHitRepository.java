@@ -0,0 +1,13 @@
+package ru.practicum.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.model.CollapsedHit;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface CollapsedHitRepository extends JpaRepository<CollapsedHit, String> {
+    @Query("select c.hitId from CollapsedHit as c where c.hitId in ?1")
+    Set<String> findExistingHitIds(Collection<String> hitIds);
+}
@@ -1,19 +1,24 @@
 package ru.practicum.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.ViewStats;
 import ru.practicum.model.EndpointHit;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface StatsRepository extends JpaRepository<EndpointHit, Long> {
-    @Query("select new ru.practicum.ViewStats(h.app, h.uri, count(h.ip)) " +
+    @Query("select new ru.practicum.ViewStats(h.app, h.uri, sum(h.hits)) " +
             "from EndpointHit as h " +
             "where h.timestamp between ?1 and ?2 " +
             "group by h.app, h.uri " +
-            "order by count(h.ip) desc")
+            "order by sum(h.hits) desc")
     List<ViewStats> getStatsWithoutUnique(LocalDateTime start, LocalDateTime end);
 
     @Query("select new ru.practicum.ViewStats(h.app, h.uri, count(distinct(h.ip))) " +
@@ -22,4 +27,14 @@ public interface StatsRepository extends JpaRepository<EndpointHit, Long> {
             "group by h.app, h.uri " +
             "order by count(distinct(h.ip)) desc")
     List<ViewStats> getStatsWithUnique(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    Optional<EndpointHit> findByHitId(String hitId);
+
+    @Query("select h.hitId from EndpointHit as h where h.hitId in ?1")
+    Set<String> findExistingHitIds(Collection<String> hitIds);
+
+    @Transactional
+    @Modifying
+    @Query("update EndpointHit as h set h.hits = h.hits + ?2 where h.id = ?1")
+    int incrementHits(long id, int hits);
+}
@@ -10,5 +10,7 @@ import java.util.Set;
 public interface StatsService {
     EndpointHitDto addHit(EndpointHitDto endpointHitDto);
 
+    void addHits(List<EndpointHitDto> endpointHitDtos);
+
     List<ViewStats> getStats(LocalDateTime start, LocalDateTime end, Set<String> uris, boolean unique);
 }
\ No newline at end of file
@@ -1,35 +1,161 @@
 package ru.practicum.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.EndpointHitDto;
 import ru.practicum.ViewStats;
+import ru.practicum.ingest.HitDeduplicator;
+import ru.practicum.ingest.HitJournal;
+import ru.practicum.model.CollapsedHit;
 import ru.practicum.model.EndpointHit;
 import ru.practicum.model.EndpointHitMapper;
+import ru.practicum.repository.CollapsedHitRepository;
 import ru.practicum.repository.StatsRepository;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("ewm.service")
 @RequiredArgsConstructor
 @Slf4j
 public class StatsServiceImpl implements StatsService {
     private final StatsRepository statsRepository;
+    private final ObjectProvider<HitJournal> hitJournal;
+    private final CollapsedHitRepository collapsedHitRepository;
+    private final HitDeduplicator hitDeduplicator;
+    private final TransactionTemplate transaction;
 
     @Override
     public EndpointHitDto addHit(EndpointHitDto endpointHitDto) {
+        HitJournal journal = hitJournal.getIfAvailable();
+        if (journal != null) {
+            endpointHitDto.setId(null);
+            if (endpointHitDto.getHitId() == null) {
+                endpointHitDto.setHitId(UUID.randomUUID().toString());
+            }
+            journal.append(endpointHitDto);
+            log.info("Просмотр записан в журнал с hitId={}", endpointHitDto.getHitId());
+            log.debug("Просмотр записан в журнал: {}", endpointHitDto);
+
+            return endpointHitDto;
+        }
+        String hitId = endpointHitDto.getHitId();
+        if (hitId != null) {
+            Optional<EndpointHit> existingHit = findByHitId(hitId);
+            if (existingHit.isPresent()) {
+                return toRecordedDto(existingHit.get());
+            }
+        }
+        Long rowId = hitDeduplicator.findRow(endpointHitDto);
+        if (rowId != null) {
+            Boolean collapsed;
+            try {
+                collapsed = transaction.execute(status -> collapse(rowId, hitId));
+            } catch (DataIntegrityViolationException ex) {
+                if (hitId == null) {
+                    throw ex;
+                }
+                return toRecordedDto(findByHitId(hitId).orElseThrow(() -> ex));
+            }
+            if (Boolean.TRUE.equals(collapsed)) {
+                hitDeduplicator.rememberHitId(hitId, rowId);
+                endpointHitDto.setId(rowId);
+                log.info("Повторный просмотр учтен в объекте с id={}", rowId);
+
+                return endpointHitDto;
+            }
+        }
         EndpointHit endpointHit = EndpointHitMapper.fromDto(endpointHitDto);
-        EndpointHit newEndpointHit = statsRepository.save(endpointHit);
-        log.info("Возвращен объект: {}", newEndpointHit);
+        EndpointHit newEndpointHit;
+        try {
+            newEndpointHit = statsRepository.save(endpointHit);
+        } catch (DataIntegrityViolationException ex) {
+            if (hitId == null) {
+                throw ex;
+            }
+            return toRecordedDto(findByHitId(hitId).orElseThrow(() -> ex));
+        }
+        hitDeduplicator.remember(newEndpointHit);
+        log.info("Возвращен объект с id={}", newEndpointHit.getId());
+        log.debug("Возвращен объект: {}", newEndpointHit);
 
         return EndpointHitMapper.toDto(newEndpointHit);
     }
 
+    @Override
+    @Transactional
+    public void addHits(List<EndpointHitDto> endpointHitDtos) {
+        Set<String> hitIds = endpointHitDtos.stream()
+                .map(EndpointHitDto::getHitId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> seenHitIds = new HashSet<>();
+        if (!hitIds.isEmpty()) {
+            seenHitIds.addAll(statsRepository.findExistingHitIds(hitIds));
+            seenHitIds.addAll(collapsedHitRepository.findExistingHitIds(hitIds));
+        }
+        List<EndpointHit> newHits = new ArrayList<>();
+        Map<HitDeduplicator.Viewer, EndpointHit> batchViewers = new HashMap<>();
+        Map<String, EndpointHit> batchHitIds = new HashMap<>();
+        Map<Long, Integer> increments = new HashMap<>();
+        Map<String, Long> incrementedHitIds = new HashMap<>();
+        for (EndpointHitDto endpointHitDto : endpointHitDtos) {
+            String hitId = endpointHitDto.getHitId();
+            if (hitId != null && (hitDeduplicator.findRowByHitId(hitId) != null || !seenHitIds.add(hitId))) {
+                continue;
+            }
+            Long rowId = hitDeduplicator.findRow(endpointHitDto);
+            if (rowId != null) {
+                increments.merge(rowId, 1, Integer::sum);
+                if (hitId != null) {
+                    incrementedHitIds.put(hitId, rowId);
+                }
+                continue;
+            }
+            HitDeduplicator.Viewer viewer = hitDeduplicator.viewerOf(endpointHitDto);
+            EndpointHit endpointHit = hitDeduplicator.isEnabled() ? batchViewers.get(viewer) : null;
+            if (endpointHit != null) {
+                endpointHit.setHits(endpointHit.getHits() + 1);
+            } else {
+                endpointHit = EndpointHitMapper.fromDto(endpointHitDto);
+                newHits.add(endpointHit);
+                batchViewers.put(viewer, endpointHit);
+            }
+            if (hitId != null) {
+                batchHitIds.put(hitId, endpointHit);
+            }
+        }
+        statsRepository.saveAll(newHits);
+        statsRepository.flush();
+        increments.forEach(statsRepository::incrementHits);
+        List<CollapsedHit> collapsedHits = new ArrayList<>();
+        batchHitIds.forEach((hitId, endpointHit) -> {
+            if (!hitId.equals(endpointHit.getHitId())) {
+                collapsedHits.add(new CollapsedHit(hitId, endpointHit.getId()));
+            }
+        });
+        incrementedHitIds.forEach((hitId, rowId) -> collapsedHits.add(new CollapsedHit(hitId, rowId)));
+        collapsedHitRepository.saveAll(collapsedHits);
+        afterCommit(() -> {
+            newHits.forEach(hitDeduplicator::remember);
+            batchHitIds.forEach((hitId, endpointHit) -> hitDeduplicator.rememberHitId(hitId, endpointHit.getId()));
+            incrementedHitIds.forEach(hitDeduplicator::rememberHitId);
+        });
+        log.info("Сохранено просмотров: {} из {}, объединено с существующими записями: {}",
+                newHits.size(), endpointHitDtos.size(), endpointHitDtos.size() - newHits.size());
+    }
+
     @Override
     public List<ViewStats> getStats(LocalDateTime start, LocalDateTime end, Set<String> uris, boolean unique) {
         try {
@@ -44,11 +170,54 @@ public class StatsServiceImpl implements StatsService {
                         .filter(stat -> uris.contains(stat.getUri()))
                         .collect(Collectors.toList());
             }
-            log.info("Возвращен список статистики: {}", stats);
+            log.info("Возвращен список статистики: количество={}", stats.size());
+            log.debug("Возвращен список статистики: {}", stats);
 
             return stats;
         } catch (DateTimeParseException ex) {
             throw new IllegalArgumentException("Incorrect date format, please specify date in format yyyy-MM-dd HH:mm:ss");
         }
     }
-}
\ No newline at end of file
+
+    private Optional<EndpointHit> findByHitId(String hitId) {
+        Long rowId = hitDeduplicator.findRowByHitId(hitId);
+        if (rowId == null) {
+            Optional<EndpointHit> existingHit = statsRepository.findByHitId(hitId);
+            if (existingHit.isPresent()) {
+                return existingHit;
+            }
+            rowId = collapsedHitRepository.findById(hitId).map(CollapsedHit::getRowId).orElse(null);
+        }
+        return rowId != null ? statsRepository.findById(rowId) : Optional.empty();
+    }
+
+    private boolean collapse(long rowId, String hitId) {
+        if (statsRepository.incrementHits(rowId, 1) == 0) {
+            return false;
+        }
+        if (hitId != null) {
+            collapsedHitRepository.save(new CollapsedHit(hitId, rowId));
+        }
+        return true;
+    }
+
+    private EndpointHitDto toRecordedDto(EndpointHit existingHit) {
+        log.info("Возвращен ранее сохраненный объект с id={}", existingHit.getId());
+        log.debug("Возвращен ранее сохраненный объект: {}", existingHit);
+
+        return EndpointHitMapper.toDto(existingHit);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+CREATE SEQUENCE endpoint_hits_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE endpoint_hits (
+    id BIGINT NOT NULL,
+    hit_id VARCHAR,
+    app VARCHAR NOT NULL,
+    uri VARCHAR NOT NULL,
+    ip VARCHAR NOT NULL,
+    created TIMESTAMP NOT NULL,
+    hits INT NOT NULL DEFAULT 1,
+    CONSTRAINT pk_hit PRIMARY KEY (id),
+    CONSTRAINT uq_hit_id UNIQUE (hit_id)
+);
@@ -0,0 +1 @@
+CREATE INDEX ix_endpoint_hits_created ON endpoint_hits (created);
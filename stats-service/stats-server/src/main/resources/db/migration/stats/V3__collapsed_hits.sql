@@ -0,0 +1,7 @@
+CREATE TABLE collapsed_hits (
+    hit_id VARCHAR NOT NULL,
+    row_id BIGINT NOT NULL,
+    CONSTRAINT pk_collapsed_hit PRIMARY KEY (hit_id),
+    CONSTRAINT fk_collapsed_hits_row FOREIGN KEY (row_id) REFERENCES endpoint_hits (id)
+);
+CREATE INDEX ix_collapsed_hits_row_id ON collapsed_hits (row_id);
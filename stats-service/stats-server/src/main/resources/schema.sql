@@ -1,8 +0,0 @@
-CREATE TABLE IF NOT EXISTS endpoint_hits (
-    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
-    app VARCHAR NOT NULL,
-    uri VARCHAR NOT NULL,
-    ip VARCHAR NOT NULL,
-    created TIMESTAMP NOT NULL,
-    CONSTRAINT pk_hit PRIMARY KEY (id)
-);
\ No newline at end of file